@@ -0,0 +1,123 @@
+package com.tancalculator.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CoreHandles - Access to the calculator classes from a named package.
+ *
+ * The calculator lives in the unnamed package, which cannot be imported, while
+ * JMH refuses benchmarks in the unnamed package. The methods under test are
+ * therefore reached through constant method handles: a static final handle is
+ * folded and inlined by the JIT, so calls cost the same as direct calls.
+ * Receivers are typed as Object.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CoreHandles {
+
+    /** {@code new TanCalculatorCore(Engine)}: (Object engine)Object. */
+    static final MethodHandle NEW_CORE;
+
+    /** {@code Engine.valueOf(String)}: (String)Object. */
+    static final MethodHandle ENGINE_VALUE_OF;
+
+    /** {@code parseInput(String)}: (Object, String)double. */
+    static final MethodHandle PARSE_INPUT;
+
+    /** {@code toRadians(double)}: (Object, double)double. */
+    static final MethodHandle TO_RADIANS;
+
+    /** {@code normalizeRadians(double)}: (Object, double)double. */
+    static final MethodHandle NORMALIZE_RADIANS;
+
+    /** {@code sin(double)}: (Object, double)double. */
+    static final MethodHandle SIN;
+
+    /** {@code cos(double)}: (Object, double)double. */
+    static final MethodHandle COS;
+
+    /** {@code tan(double)}: (Object, double)double. */
+    static final MethodHandle TAN;
+
+    /** {@code calculateTangent(String)}: (Object, String)double. */
+    static final MethodHandle CALCULATE_TANGENT;
+
+    /** {@code new TanCalculatorParallel(Engine, ForkJoinPool, int)}: (Object engine, ForkJoinPool, int)Object. */
+    static final MethodHandle NEW_PARALLEL;
+
+    /**
+     * {@code TanCalculatorParallel.calculateTangents(double[], double[], byte[], int, int)}:
+     * (Object, double[], double[], byte[], int, int)int.
+     */
+    static final MethodHandle PARALLEL_CALCULATE_TANGENTS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> core = Class.forName("TanCalculatorCore");
+            Class<?> engine = Class.forName("TanCalculatorCore$Engine");
+            MethodType ofDouble = MethodType.methodType(double.class, double.class);
+            MethodType ofString = MethodType.methodType(double.class, String.class);
+            MethodType onDouble = MethodType.methodType(double.class, Object.class, double.class);
+            MethodType onString = MethodType.methodType(double.class, Object.class, String.class);
+
+            NEW_CORE = lookup.findConstructor(core, MethodType.methodType(void.class, engine))
+                .asType(MethodType.methodType(Object.class, Object.class));
+            ENGINE_VALUE_OF = lookup.findStatic(engine, "valueOf", MethodType.methodType(engine, String.class))
+                .asType(MethodType.methodType(Object.class, String.class));
+            PARSE_INPUT = lookup.findVirtual(core, "parseInput", ofString).asType(onString);
+            TO_RADIANS = lookup.findVirtual(core, "toRadians", ofDouble).asType(onDouble);
+            NORMALIZE_RADIANS = lookup.findVirtual(core, "normalizeRadians", ofDouble).asType(onDouble);
+            SIN = lookup.findVirtual(core, "sin", ofDouble).asType(onDouble);
+            COS = lookup.findVirtual(core, "cos", ofDouble).asType(onDouble);
+            TAN = lookup.findVirtual(core, "tan", ofDouble).asType(onDouble);
+            CALCULATE_TANGENT = lookup.findVirtual(core, "calculateTangent", ofString).asType(onString);
+
+            Class<?> parallel = Class.forName("TanCalculatorParallel");
+            NEW_PARALLEL = lookup.findConstructor(parallel,
+                    MethodType.methodType(void.class, engine, ForkJoinPool.class, int.class))
+                .asType(MethodType.methodType(Object.class, Object.class, ForkJoinPool.class, int.class));
+            MethodType bulk = MethodType.methodType(int.class, double[].class, double[].class, byte[].class,
+                                                    int.class, int.class);
+            PARALLEL_CALCULATE_TANGENTS = lookup.findVirtual(parallel, "calculateTangents", bulk)
+                .asType(bulk.insertParameterTypes(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private CoreHandles() {
+        // Static handles only
+    }
+
+    /**
+     * Create a calculator core.
+     *
+     * @param engine name of a TanCalculatorCore.Engine constant
+     * @return the new core
+     * @throws Throwable if the engine name is unknown
+     */
+    static Object newCore(String engine) throws Throwable {
+        Object value = (Object) ENGINE_VALUE_OF.invokeExact(engine);
+        return (Object) NEW_CORE.invokeExact(value);
+    }
+
+    /**
+     * Create a fork/join evaluator.
+     *
+     * @param engine name of a TanCalculatorCore.Engine constant
+     * @param pool the pool running the tasks
+     * @param grain angles per task below which a block is not split
+     * @return the new TanCalculatorParallel
+     * @throws Throwable if the engine name is unknown or the grain is not positive
+     */
+    static Object newParallel(String engine, ForkJoinPool pool, int grain) throws Throwable {
+        Object value = (Object) ENGINE_VALUE_OF.invokeExact(engine);
+        return (Object) NEW_PARALLEL.invokeExact(value, pool, grain);
+    }
+}
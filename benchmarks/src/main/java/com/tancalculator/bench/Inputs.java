@@ -0,0 +1,68 @@
+package com.tancalculator.bench;
+
+import java.util.Random;
+
+/**
+ * Inputs - Realistic input distributions for the benchmarks.
+ *
+ * Each distribution yields the same number of angles in degrees, angles in
+ * radians and input strings, generated from a fixed seed so runs are comparable:
+ * <ul>
+ *   <li>{@code small}: |angle| below one degree</li>
+ *   <li>{@code integer}: whole degrees in [−720, 720]</li>
+ *   <li>{@code nearAsymptote}: within 1e−6 of 90° + k·180°</li>
+ *   <li>{@code huge}: magnitudes from 1e6 to 1e300</li>
+ *   <li>{@code invalid}: non-numeric, empty, NaN and infinite strings; NaN and infinite numbers</li>
+ * </ul>
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Inputs {
+
+    /**
+     * Inputs per distribution; a power of two so indices wrap with a mask.
+     */
+    static final int SIZE = 1024;
+
+    private static final String[] INVALID_STRINGS = {"abc", "", "  ", "1e400", "NaN", "-Infinity", "4 5", "0x"};
+
+    final double[] degrees = new double[SIZE];
+    final double[] radians = new double[SIZE];
+    final String[] strings = new String[SIZE];
+
+    /**
+     * Generate a distribution.
+     *
+     * @param distribution one of the names listed in the class comment
+     */
+    Inputs(String distribution) {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            double deg;
+            switch (distribution) {
+                case "small":
+                    deg = random.nextDouble() * 2 - 1;
+                    break;
+                case "integer":
+                    deg = random.nextInt(1441) - 720;
+                    break;
+                case "nearAsymptote":
+                    deg = 90 + 180 * (random.nextInt(8) - 4) + (random.nextDouble() * 2 - 1) * 1e-6;
+                    break;
+                case "huge":
+                    deg = (random.nextBoolean() ? 1 : -1) * Math.pow(10, 6 + random.nextDouble() * 294);
+                    break;
+                case "invalid":
+                    deg = i % 2 == 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+            degrees[i] = deg;
+            radians[i] = "huge".equals(distribution) ? deg : Math.toRadians(deg);
+            strings[i] = "invalid".equals(distribution) ? INVALID_STRINGS[i % INVALID_STRINGS.length] : Double.toString(deg);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.tancalculator.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JdkBaselineBenchmark - JDK reference timings for {@link TanCalculatorBenchmark}.
+ *
+ * Same distributions and settings, evaluated with Math.tan, StrictMath.tan and
+ * a Double.parseDouble based equivalent of calculateTangent.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JdkBaselineBenchmark {
+
+    @Param({"small", "integer", "nearAsymptote", "huge", "invalid"})
+    String distribution;
+
+    private Inputs inputs;
+    private int index;
+
+    /**
+     * Create the inputs.
+     */
+    @Setup
+    public void setup() {
+        inputs = new Inputs(distribution);
+    }
+
+    private int next() {
+        index = (index + 1) & (Inputs.SIZE - 1);
+        return index;
+    }
+
+    /**
+     * Intrinsic tangent.
+     *
+     * @return Math.tan(x)
+     */
+    @Benchmark
+    public double mathTan() {
+        return Math.tan(inputs.radians[next()]);
+    }
+
+    /**
+     * fdlibm tangent.
+     *
+     * @return StrictMath.tan(x)
+     */
+    @Benchmark
+    public double strictMathTan() {
+        return StrictMath.tan(inputs.radians[next()]);
+    }
+
+    /**
+     * Parse, convert and evaluate with the JDK alone.
+     *
+     * @return the tangent, or NaN if the string is not a number
+     */
+    @Benchmark
+    public double parseAndMathTan() {
+        try {
+            return Math.tan(Math.toRadians(Double.parseDouble(inputs.strings[next()])));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.tancalculator.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * TanCalculatorBenchmark - Latency of the TanCalculatorCore hot path.
+ *
+ * Every public step of a calculation is measured per engine over the input
+ * distributions of {@link Inputs}. Calls that end in an invalid-input or
+ * undefined-tangent exception are measured including the throw and return NaN.
+ * Compare with {@link JdkBaselineBenchmark}.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TanCalculatorBenchmark {
+
+    @Param({"small", "integer", "nearAsymptote", "huge", "invalid"})
+    String distribution;
+
+    @Param({"SERIES", "MINIMAX"})
+    String engine;
+
+    private Object core;
+    private Inputs inputs;
+    private int index;
+
+    /**
+     * Create the core and the inputs.
+     *
+     * @throws Throwable if the core cannot be created
+     */
+    @Setup
+    public void setup() throws Throwable {
+        core = CoreHandles.newCore(engine);
+        inputs = new Inputs(distribution);
+    }
+
+    private int next() {
+        index = (index + 1) & (Inputs.SIZE - 1);
+        return index;
+    }
+
+    /**
+     * Input validation and parsing.
+     *
+     * @return the parsed value, or NaN if rejected
+     */
+    @Benchmark
+    public double parseInput() {
+        try {
+            return (double) CoreHandles.PARSE_INPUT.invokeExact(core, inputs.strings[next()]);
+        } catch (Throwable e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Degree to radian conversion.
+     *
+     * @return the angle in radians
+     * @throws Throwable never
+     */
+    @Benchmark
+    public double toRadians() throws Throwable {
+        return (double) CoreHandles.TO_RADIANS.invokeExact(core, inputs.degrees[next()]);
+    }
+
+    /**
+     * Radian normalisation.
+     *
+     * @return the normalised angle
+     * @throws Throwable never
+     */
+    @Benchmark
+    public double normalizeRadians() throws Throwable {
+        return (double) CoreHandles.NORMALIZE_RADIANS.invokeExact(core, inputs.radians[next()]);
+    }
+
+    /**
+     * Series sine.
+     *
+     * @return sin(x)
+     * @throws Throwable never
+     */
+    @Benchmark
+    public double sin() throws Throwable {
+        return (double) CoreHandles.SIN.invokeExact(core, inputs.radians[next()]);
+    }
+
+    /**
+     * Series cosine.
+     *
+     * @return cos(x)
+     * @throws Throwable never
+     */
+    @Benchmark
+    public double cos() throws Throwable {
+        return (double) CoreHandles.COS.invokeExact(core, inputs.radians[next()]);
+    }
+
+    /**
+     * Tangent of an angle in radians.
+     *
+     * @return tan(x), or NaN if undefined
+     */
+    @Benchmark
+    public double tan() {
+        try {
+            return (double) CoreHandles.TAN.invokeExact(core, inputs.radians[next()]);
+        } catch (Throwable e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Complete calculation from the input string.
+     *
+     * @return the tangent, or NaN if invalid or undefined
+     */
+    @Benchmark
+    public double calculateTangent() {
+        try {
+            return (double) CoreHandles.CALCULATE_TANGENT.invokeExact(core, inputs.strings[next()]);
+        } catch (Throwable e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.tancalculator.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * TanCalculatorParallelBenchmark - Scaling of TanCalculatorParallel with the pool size.
+ *
+ * Evaluates a batch of {@link #ANGLES} random angles in [−360, 360) on a fork/join
+ * pool of {@code workers} threads split at {@code grain} angles per task, and
+ * reports the time per angle; the speed-up is the one-worker score divided by the
+ * others. The default pool sizes cover up to 8 processors; pass
+ * {@code -p workers=1,2,...,N} for larger machines.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TanCalculatorParallelBenchmark {
+
+    /**
+     * Angles per batch: 8 MiB of input, well above the default grain.
+     */
+    static final int ANGLES = 1 << 20;
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    @Param({"1024", "8192", "65536"})
+    int grain;
+
+    @Param({"SERIES", "MINIMAX"})
+    String engine;
+
+    private ForkJoinPool pool;
+    private Object parallel;
+    private double[] degrees;
+    private double[] tangents;
+    private byte[] status;
+
+    /**
+     * Create the pool, the evaluator and the batch.
+     *
+     * @throws Throwable if the evaluator cannot be created
+     */
+    @Setup
+    public void setup() throws Throwable {
+        pool = new ForkJoinPool(workers);
+        parallel = CoreHandles.newParallel(engine, pool, grain);
+        degrees = new double[ANGLES];
+        Random random = new Random(18);
+        for (int i = 0; i < ANGLES; i++) {
+            degrees[i] = (random.nextDouble() - 0.5) * 720;
+        }
+        tangents = new double[ANGLES];
+        status = new byte[ANGLES];
+    }
+
+    /**
+     * Shut the pool down.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Evaluate the whole batch.
+     *
+     * @return the number of successful elements
+     * @throws Throwable never
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANGLES)
+    public int calculateTangents() throws Throwable {
+        return (int) CoreHandles.PARALLEL_CALCULATE_TANGENTS.invokeExact(parallel, degrees, tangents, status, 0, ANGLES);
+    }
+}
@@ -63,9 +63,10 @@ echo ✓ Code quality checks completed
 echo ✓ JAR file created
 echo.
 echo To run the application:
-echo   java -jar target/tan-calculator-1.0.0.jar
+echo   java -jar gui/target/tan-calculator-1.0.0.jar
+echo   java -jar cli/target/tan-calculator-headless-1.0.0.jar 45      (headless)
 echo.
 echo To debug with JDB:
-echo   jdb -sourcepath src/main/java TanCalculator
+echo   jdb -classpath gui/target/tan-calculator-1.0.0.jar TanCalculator
 echo.
 echo ======================================== 
\ No newline at end of file
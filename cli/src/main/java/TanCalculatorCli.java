@@ -0,0 +1,265 @@
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * TanCalculatorCli - Headless command-line front end.
+ *
+ * Evaluates angles in degrees given as arguments, or streams them one per line from
+ * standard input through {@link TanCalculatorStreamFilter} when no angles are given,
+ * and prints one result per input in the same
+ * words as the GUI: the tangent with six decimals, {@code UNDEFINED} (FR‑5) or
+ * {@code INVALID INPUT} (FR‑6). Depends only on {@link TanCalculatorCore}, so no
+ * AWT or Swing class is loaded in this mode.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorCli {
+
+    /**
+     * Exit status: every input was evaluated.
+     */
+    public static final int EXIT_OK = 0;
+
+    /**
+     * Exit status: at least one input was undefined or invalid.
+     */
+    public static final int EXIT_INPUT_ERROR = 1;
+
+    /**
+     * Exit status: bad command-line usage or an I/O failure.
+     */
+    public static final int EXIT_USAGE = 2;
+
+    /**
+     * Error events buffered for the --log-errors log; further ones are dropped.
+     */
+    private static final int ERROR_BUFFER = 1 << 12;
+
+    private static final String USAGE =
+        "Usage: java -jar tan-calculator.jar [--cli] [--engine series|minimax] [--log-errors n] [--] [angle...]\n"
+        + "       java -jar tan-calculator.jar [--engine series|minimax] [--threads n] [--log-errors n] --binary in out\n"
+        + "       java -jar tan-calculator.jar [--engine series|minimax] [--threads n] [--log-errors n] --serve [host:]port\n"
+        + "Angles are in degrees; without angles they are read from standard input, one per line.\n"
+        + "--binary maps a file of little-endian doubles and writes the tangents followed by a\n"
+        + "status byte per angle. --serve runs the HTTP service until the process is stopped,\n"
+        + "with at most n evaluations at a time. --log-errors reports up to n failed inputs per\n"
+        + "second, with their line, argument or element number, on standard error.";
+
+    private TanCalculatorCli() {
+        // Entry point only
+    }
+
+    /**
+     * Run the command-line mode on the process's standard streams and exit with its status.
+     * This is the entry point of the headless jar; {@code TanCalculator} delegates here too.
+     *
+     * @param args command line arguments: options followed by angles in degrees
+     */
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16),
+                                          false, StandardCharsets.UTF_8);
+        // Unbuffered stdin: the stream filter reads it in large blocks itself
+        int status = run(args, new FileInputStream(FileDescriptor.in), out, System.err);
+        out.flush();
+        if (status != EXIT_OK) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Run the command-line mode.
+     *
+     * @param args command line arguments: options followed by angles in degrees
+     * @param in stream read for angles when none are given as arguments
+     * @param out stream receiving one result line per angle
+     * @param err stream receiving usage and I/O errors
+     * @return {@link #EXIT_OK}, {@link #EXIT_INPUT_ERROR} or {@link #EXIT_USAGE}
+     */
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        TanCalculatorCore.Engine engine = TanCalculatorCore.Engine.SERIES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String[] binary = null;
+        String serve = null;
+        int logErrors = 0;
+        int first = 0;
+        while (first < args.length && args[first].startsWith("--")) {
+            String option = args[first++];
+            if ("--".equals(option)) {
+                break;
+            } else if ("--cli".equals(option)) {
+                continue;
+            } else if ("--engine".equals(option) && first < args.length) {
+                try {
+                    engine = TanCalculatorCore.Engine.valueOf(args[first++].toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    err.println("Unknown engine: " + args[first - 1]);
+                    return EXIT_USAGE;
+                }
+            } else if ("--threads".equals(option) && first < args.length) {
+                try {
+                    threads = Integer.parseInt(args[first++]);
+                } catch (NumberFormatException e) {
+                    threads = 0;
+                }
+                if (threads < 1) {
+                    err.println("Invalid thread count: " + args[first - 1]);
+                    return EXIT_USAGE;
+                }
+            } else if ("--log-errors".equals(option) && first < args.length) {
+                try {
+                    logErrors = Integer.parseInt(args[first++]);
+                } catch (NumberFormatException e) {
+                    logErrors = 0;
+                }
+                if (logErrors < 1) {
+                    err.println("Invalid error log rate: " + args[first - 1]);
+                    return EXIT_USAGE;
+                }
+            } else if ("--binary".equals(option) && first + 1 < args.length) {
+                binary = new String[] {args[first], args[first + 1]};
+                first += 2;
+            } else if ("--serve".equals(option) && first < args.length) {
+                serve = args[first++];
+            } else if ("--version".equals(option)) {
+                out.println("TanCalculator " + TanCalculatorCore.VERSION);
+                return EXIT_OK;
+            } else if ("--gui".equals(option)) {
+                // Only the launcher of the full jar opens the GUI, and only as the sole argument
+                err.println("--gui takes no other arguments and needs the full jar, not the headless one");
+                return EXIT_USAGE;
+            } else if ("--help".equals(option)) {
+                out.println(USAGE);
+                return EXIT_OK;
+            } else {
+                err.println(USAGE);
+                return EXIT_USAGE;
+            }
+        }
+
+        TanCalculatorErrorBus errors = logErrors > 0
+            ? new TanCalculatorErrorBus(ERROR_BUFFER, new TanCalculatorErrorLog(err, logErrors)).start()
+            : null;
+        int exit = EXIT_USAGE;
+        try {
+            if (serve != null) {
+                exit = runServer(engine, threads, serve, errors, out, err);
+            } else if (binary != null) {
+                exit = runBinary(engine, threads, binary[0], binary[1], errors, out, err);
+            } else {
+                exit = evaluateAll(engine, args, first, errors, in, out, err);
+            }
+            return exit;
+        } finally {
+            // A running server keeps its bus for as long as the process lives
+            if (errors != null && (serve == null || exit != EXIT_OK)) {
+                errors.close();
+            }
+        }
+    }
+
+    private static int evaluateAll(TanCalculatorCore.Engine engine, String[] args, int first,
+                                   TanCalculatorErrorBus errors, InputStream in, PrintStream out, PrintStream err) {
+        TanCalculatorCore core = new TanCalculatorCore(engine);
+        TanCalculatorResult result = new TanCalculatorResult();
+        boolean failed = false;
+        if (first < args.length) {
+            TanCalculatorFormatter formatter = new TanCalculatorFormatter(6);
+            byte[] line = new byte[formatter.maxLength()];
+            for (int i = first; i < args.length; i++) {
+                if (evaluate(core, args[i], result, formatter, line, out)) {
+                    failed = true;
+                    if (errors != null) {
+                        errors.publish(TanCalculatorErrorEvent.Kind.ofStatus(result.getStatus()), args[i], i - first);
+                    }
+                }
+            }
+        } else {
+            core.setErrorBus(errors);
+            try {
+                failed = new TanCalculatorStreamFilter(core).filter(in, out) > 0;
+            } catch (IOException e) {
+                out.flush();
+                err.println("Error reading input: " + e.getMessage());
+                return EXIT_USAGE;
+            }
+        }
+        out.flush();
+        return failed ? EXIT_INPUT_ERROR : EXIT_OK;
+    }
+
+    private static int runBinary(TanCalculatorCore.Engine engine, int threads, String input, String output,
+                                 TanCalculatorErrorBus errors, PrintStream out, PrintStream err) {
+        try {
+            Path inputPath = Paths.get(input);
+            long failures = new TanCalculatorBinaryBatch(engine, threads, TanCalculatorBinaryBatch.DEFAULT_CHUNK_ELEMENTS,
+                                                         errors).process(inputPath, Paths.get(output));
+            out.println((Files.size(inputPath) / Double.BYTES) + " angles, " + failures + " undefined or invalid");
+            out.flush();
+            return failures > 0 ? EXIT_INPUT_ERROR : EXIT_OK;
+        } catch (IOException | InvalidPathException e) {
+            err.println("Binary batch failed: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+    }
+
+    private static int runServer(TanCalculatorCore.Engine engine, int threads, String address,
+                                 TanCalculatorErrorBus errors, PrintStream out, PrintStream err) {
+        int colon = address.lastIndexOf(':');
+        String host = colon < 0 ? "localhost" : address.substring(0, colon);
+        int port;
+        try {
+            port = Integer.parseInt(address.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (port < 0 || port > 0xFFFF) {
+            err.println("Invalid port: " + address);
+            return EXIT_USAGE;
+        }
+        try {
+            TanCalculatorHttpServer server = TanCalculatorHttpServer.start(
+                new InetSocketAddress(host, port), engine, threads, errors);
+            InetSocketAddress bound = server.getAddress();
+            out.println("Listening on http://" + bound.getHostString() + ":" + bound.getPort() + "/tan"
+                        + (server.isVirtualThreads() ? " (virtual threads)" : ""));
+            out.flush();
+            return EXIT_OK;                             // the server's dispatcher thread keeps the JVM running
+        } catch (IOException e) {
+            err.println("Cannot start server: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+    }
+
+    /**
+     * Evaluate one angle and print its result line.
+     *
+     * @return true if the input was undefined or invalid
+     */
+    private static boolean evaluate(TanCalculatorCore core, String input, TanCalculatorResult result,
+                                    TanCalculatorFormatter formatter, byte[] line, PrintStream out) {
+        byte status = core.tryCalculateTangent(input, result);
+        if (status == TanCalculatorCore.STATUS_OK) {
+            out.write(line, 0, formatter.format(result.getValue(), line, 0));
+            out.println();
+        } else if (status == TanCalculatorCore.STATUS_UNDEFINED) {
+            out.println("UNDEFINED");
+        } else {
+            out.println("INVALID INPUT");
+        }
+        return status != TanCalculatorCore.STATUS_OK;
+    }
+}
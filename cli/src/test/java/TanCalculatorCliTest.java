@@ -0,0 +1,50 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the command-line module.
+ * 
+ * @version 1.0.0
+ */
+@DisplayName("TanCalculator Command Line Tests")
+class TanCalculatorCliTest {
+
+    private String runCli(String stdin, String... args) {
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+        java.io.ByteArrayOutputStream err = new java.io.ByteArrayOutputStream();
+        int status = TanCalculatorCli.run(args,
+            new java.io.ByteArrayInputStream(stdin.getBytes(java.nio.charset.StandardCharsets.UTF_8)),
+            new java.io.PrintStream(out, true), new java.io.PrintStream(err, true));
+        return status + "|" + out.toString().replace(System.lineSeparator(), "\n");
+    }
+
+    @Test
+    @DisplayName("Test command line evaluation")
+    void testCommandLine() {
+        assertEquals("0|1.000000\n-0.577350\n", runCli("", "--cli", "45", "-30"));
+        assertEquals("1|1.000000\nUNDEFINED\nINVALID INPUT\nINVALID INPUT\n", runCli("45\n90\nabc\n\n"));
+        assertEquals("0|0.577350\n", runCli("", "--engine", "minimax", "--", "30"));
+        assertEquals("2|", runCli("", "--bogus"));
+        assertEquals("2|", runCli("", "--engine", "minimax", "--gui"), "--gui is only a launcher option");
+        assertEquals("0|TanCalculator 1.0.0\n", runCli("", "--version"));
+    }
+
+    @Test
+    @DisplayName("Test rate-limited error log")
+    void testErrorLog() {
+        java.io.ByteArrayOutputStream err = new java.io.ByteArrayOutputStream();
+        java.io.PrintStream errStream = new java.io.PrintStream(err, true);
+        java.io.PrintStream out = new java.io.PrintStream(new java.io.ByteArrayOutputStream(), true);
+        assertEquals(TanCalculatorCli.EXIT_INPUT_ERROR, TanCalculatorCli.run(new String[] {"--log-errors", "10"},
+            new java.io.ByteArrayInputStream("45\n90\nabc\n".getBytes(java.nio.charset.StandardCharsets.UTF_8)),
+            out, errStream));
+        assertEquals(TanCalculatorCli.EXIT_INPUT_ERROR, TanCalculatorCli.run(new String[] {"--log-errors", "10", "1", "x"},
+            new java.io.ByteArrayInputStream(new byte[0]), out, errStream));
+        String log = err.toString();
+        assertTrue(log.contains(" NON_NUMERIC_INPUT #2 abc"), log);
+        assertTrue(log.contains(" UNDEFINED_TANGENT #1 90.0"), log);
+        assertTrue(log.contains(" NON_NUMERIC_INPUT #1 x"), log);
+        assertEquals("2|", runCli("", "--log-errors", "0"));
+    }
+}
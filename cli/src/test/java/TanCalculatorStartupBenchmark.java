@@ -0,0 +1,96 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TanCalculatorStartupBenchmark - Start-up time and resident memory of the command-line mode.
+ *
+ * Launches fresh JVMs running the headless mode and, for comparison, a JVM that only
+ * initialises Swing's look and feel, and reports the median wall-clock time and the
+ * peak resident set size (VmHWM, Linux only) of each.
+ * Run with {@code java -cp core/target/classes:server/target/classes:cli/target/classes:cli/target/test-classes
+ * TanCalculatorStartupBenchmark [runs]}.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorStartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+
+    private TanCalculatorStartupBenchmark() {
+        // Entry point only
+    }
+
+    /**
+     * Run the benchmark, or act as the measured child process.
+     *
+     * @param args {@code [runs]} in the parent; {@code probe cli|swing} in a child
+     * @throws Exception if a child process cannot be run
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "probe".equals(args[0])) {
+            probe(args[1]);
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        report("cli", runs);
+        report("swing", runs);
+    }
+
+    private static void probe(String mode) throws Exception {
+        if ("cli".equals(mode)) {
+            TanCalculatorCli.run(new String[] {"45"}, System.in, System.out, System.err);
+        } else {
+            System.setProperty("java.awt.headless", "true");
+            javax.swing.UIManager.setLookAndFeel(javax.swing.UIManager.getSystemLookAndFeelClassName());
+            System.out.println(new javax.swing.JLabel("Result:").getText());
+        }
+        System.out.println("rss-kb " + peakResidentKilobytes());
+    }
+
+    private static long peakResidentKilobytes() throws IOException {
+        File status = new File("/proc/self/status");
+        if (!status.exists()) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(Paths.get(status.getPath()))) {
+            if (line.startsWith("VmHWM:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static void report(String mode, int runs) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(Arrays.asList(
+            java, "-cp", System.getProperty("java.class.path"), TanCalculatorStartupBenchmark.class.getName(),
+            "probe", mode));
+        long[] millis = new long[runs];
+        long[] rss = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            process.waitFor();
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+            int at = output.indexOf("rss-kb ");
+            rss[i] = at < 0 ? -1 : Long.parseLong(output.substring(at + 7).trim());
+        }
+        Arrays.sort(millis);
+        Arrays.sort(rss);
+        System.out.printf("%-6s median start-up %5d ms   median peak RSS %7d kB%n",
+            mode, millis[runs / 2], rss[runs / 2]);
+    }
+}
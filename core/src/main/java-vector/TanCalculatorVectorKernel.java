@@ -0,0 +1,187 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * TanCalculatorVectorKernel - SIMD bulk tangent kernel built on the JDK Vector API.
+ * 
+ * Runs the same pipeline as the scalar bulk loop across whole vector lanes, with
+ * the same floating-point operations in the same order, so every lane is bit for bit
+ * what {@link TanCalculatorCore#evaluateTanDegrees} returns:
+ * - Exact reduction modulo 360 and by quarter turns in degrees, as in
+ *   {@link TanCalculatorCore#reduceDegrees}, with the round-half-even quadrant of
+ *   {@code Math.rint}, then degree to radian conversion (FR-2)
+ * - sin/cos of the selected engine: the series summed term by term until it stops
+ *   changing, lane by lane, or the minimax polynomials in their scalar form (FR-3)
+ * - The tan/cot complement for odd quadrants and the EPS asymptote test as lane masks (FR-5)
+ * 
+ * Lanes holding quarter-degree multiples are answered by the scalar fallback from
+ * {@link TanCalculatorDegreeTable}. Chunks holding non-finite or very large angles,
+ * and the loop tail, are handed to the fallback as a whole.
+ * This class is only compiled on JDK 17+ and is loaded reflectively by
+ * {@link TanCalculatorCore}.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorVectorKernel implements TanCalculatorBulkKernel {
+
+    /**
+     * Widest vector shape the platform supports (e.g. 4 lanes on AVX2, 8 on AVX-512).
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Largest |degrees| reduced in-lane; the quotient by 360 stays an exact integer below it.
+     */
+    private static final double MAX_LANE_DEGREES = 0x1p52;
+
+    /**
+     * Adding and subtracting 1.5·2^52 rounds |v| &lt; 2^51 to an integer, ties to even,
+     * exactly like {@link Math#rint}.
+     */
+    private static final double ROUND_TO_INTEGER = 0x1.8p52;
+
+    /**
+     * Scalar loop used for the tail and for chunks the vector path does not handle.
+     */
+    private final TanCalculatorBulkKernel fallback;
+
+    /**
+     * Whether lanes evaluate the minimax polynomials rather than the Maclaurin series.
+     */
+    private final boolean minimax;
+
+    /**
+     * Constructor for TanCalculatorVectorKernel.
+     * 
+     * @param engine polynomial engine the lanes evaluate
+     * @param fallback scalar kernel of the same engine for tails and special lanes
+     */
+    TanCalculatorVectorKernel(TanCalculatorCore.Engine engine, TanCalculatorBulkKernel fallback) {
+        this.fallback = fallback;
+        this.minimax = engine == TanCalculatorCore.Engine.MINIMAX;
+    }
+
+    @Override
+    public int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len) {
+        int lanes = SPECIES.length();
+        int upper = off + SPECIES.loopBound(len);
+        int ok = 0;
+        int i = off;
+        for (; i < upper; i += lanes) {
+            DoubleVector deg = DoubleVector.fromArray(SPECIES, degreesIn, i);
+            // NaN compares false, so non-finite lanes also take the scalar path
+            if (!deg.abs().compare(VectorOperators.LE, MAX_LANE_DEGREES).allTrue()) {
+                ok += fallback.calculateTangents(degreesIn, out, status, i, lanes);
+                continue;
+            }
+
+            // Exact reduction into [−180, 180], as in reduceDegrees
+            DoubleVector d = deg.sub(truncate(deg.mul(1.0 / 360.0)).mul(360.0));
+            d = d.sub(360.0, d.compare(VectorOperators.GT, 180.0));
+            d = d.add(360.0, d.compare(VectorOperators.LT, -180.0));
+
+            // Quarter-degree multiples are looked up in the table by the scalar path
+            DoubleVector quarters = d.mul((double) TanCalculatorDegreeTable.STEPS_PER_DEGREE);
+            long table = quarters.compare(VectorOperators.EQ, truncate(quarters)).toLong();
+
+            // Quarter-turn split d = 90·k + r, also exact, then only r is converted (FR-2)
+            DoubleVector kd = d.mul(1.0 / 90.0).add(ROUND_TO_INTEGER).sub(ROUND_TO_INTEGER);
+            DoubleVector x = d.sub(kd.mul(90.0)).mul(TanCalculatorCore.PI).div(180.0);
+            VectorMask<Double> odd = ((LongVector) kd.convert(VectorOperators.D2L, 0))
+                .and(1L).compare(VectorOperators.NE, 0L).cast(SPECIES);
+
+            DoubleVector[] sc = minimax ? sincosMinimax(x) : sincosSeries(x);
+            DoubleVector s = sc[TanCalculatorCore.SIN];
+            DoubleVector c = sc[TanCalculatorCore.COS];
+
+            // Odd quadrants: tan(x) = −cos(r)/sin(r)
+            DoubleVector num = s.blend(c.neg(), odd);
+            DoubleVector den = c.blend(s, odd);
+            VectorMask<Double> undefined = den.abs().compare(VectorOperators.LT, TanCalculatorCore.EPS);
+            num.div(den).blend(Double.NaN, undefined).intoArray(out, i);
+
+            long bits = undefined.toLong();
+            for (int j = 0; j < lanes; j++) {
+                if (((table >>> j) & 1L) != 0) {
+                    ok += fallback.calculateTangents(degreesIn, out, status, i + j, 1);
+                } else if (((bits >>> j) & 1L) != 0) {
+                    status[i + j] = TanCalculatorCore.STATUS_UNDEFINED;
+                } else {
+                    status[i + j] = TanCalculatorCore.STATUS_OK;
+                    ok++;
+                }
+            }
+        }
+        if (i < off + len) {
+            ok += fallback.calculateTangents(degreesIn, out, status, i, off + len - i);
+        }
+        return ok;
+    }
+
+    /**
+     * Round toward zero, as a {@code (long)} cast does, for |v| below 2^63.
+     * 
+     * @param v values to truncate
+     * @return the integer parts
+     */
+    private static DoubleVector truncate(DoubleVector v) {
+        return (DoubleVector) v.convert(VectorOperators.D2L, 0).convert(VectorOperators.L2D, 0);
+    }
+
+    /**
+     * Lane-wise copy of the fused Maclaurin series of {@link TanCalculatorCore}: each
+     * lane adds terms until neither sum changes, then keeps its sums while the others go on.
+     * 
+     * @param x reduced angles in radians
+     * @return sin(x) at {@link TanCalculatorCore#SIN} and cos(x) at {@link TanCalculatorCore#COS}
+     */
+    private static DoubleVector[] sincosSeries(DoubleVector x) {
+        DoubleVector negX2 = x.neg().mul(x);
+        DoubleVector sinTerm = x;
+        DoubleVector sinSum = x;
+        DoubleVector cosTerm = DoubleVector.broadcast(SPECIES, 1.0);
+        DoubleVector cosSum = cosTerm;
+        VectorMask<Double> active = SPECIES.maskAll(true);
+        for (int n = 1; n < TanCalculatorCore.REDUCED_SERIES_TERMS && active.anyTrue(); n++) {
+            sinTerm = sinTerm.mul(negX2.div((double) ((2 * n) * (2 * n + 1))));
+            cosTerm = cosTerm.mul(negX2.div((double) ((2 * n - 1) * (2 * n))));
+            DoubleVector sinNext = sinSum.add(sinTerm);
+            DoubleVector cosNext = cosSum.add(cosTerm);
+            active = active.and(sinNext.compare(VectorOperators.NE, sinSum)
+                .or(cosNext.compare(VectorOperators.NE, cosSum)));
+            sinSum = sinSum.blend(sinNext, active);
+            cosSum = cosSum.blend(cosNext, active);
+        }
+        return new DoubleVector[] {sinSum, cosSum};
+    }
+
+    /**
+     * Lane-wise copy of {@link TanCalculatorMinimax#sincos}, operation for operation.
+     * 
+     * @param x reduced angles in radians
+     * @return sin(x) at {@link TanCalculatorCore#SIN} and cos(x) at {@link TanCalculatorCore#COS}
+     */
+    private static DoubleVector[] sincosMinimax(DoubleVector x) {
+        DoubleVector z = x.mul(x);
+        DoubleVector w = z.mul(z);
+
+        DoubleVector rs = z.mul(z.mul(TanCalculatorMinimax.S4).add(TanCalculatorMinimax.S3))
+            .add(TanCalculatorMinimax.S2)
+            .add(z.mul(w).mul(z.mul(TanCalculatorMinimax.S6).add(TanCalculatorMinimax.S5)));
+        DoubleVector sin = x.add(z.mul(x).mul(z.mul(rs).add(TanCalculatorMinimax.S1)));
+
+        DoubleVector rc = z.mul(z.mul(z.mul(TanCalculatorMinimax.C3).add(TanCalculatorMinimax.C2))
+                .add(TanCalculatorMinimax.C1))
+            .add(w.mul(w).mul(z.mul(z.mul(TanCalculatorMinimax.C6).add(TanCalculatorMinimax.C5))
+                .add(TanCalculatorMinimax.C4)));
+        DoubleVector hz = z.mul(0.5);
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0).sub(hz);
+        DoubleVector cos = one.add(DoubleVector.broadcast(SPECIES, 1.0).sub(one).sub(hz).add(z.mul(rc)));
+        return new DoubleVector[] {sin, cos};
+    }
+}
@@ -0,0 +1,152 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * TanCalculatorBinaryBatch - Memory-mapped binary batch evaluation.
+ *
+ * The input file holds angles in degrees as consecutive little-endian IEEE 754
+ * doubles. The output file holds n little-endian tangents followed by a column of
+ * n status bytes ({@code TanCalculatorCore.STATUS_*}), so it is 9·n bytes long;
+ * failed elements get NaN. Both files are memory-mapped chunk by chunk and the
+ * chunks are evaluated in parallel, each by its own {@link TanCalculatorCore}
+ * with no per-element objects: the scalar loop reads and writes the mapped pages
+ * in place, and the SIMD kernel stages them through the core's small scratch arrays (see
+ * {@link TanCalculatorCore#calculateTangents(java.nio.DoubleBuffer, java.nio.DoubleBuffer, ByteBuffer)}).
+ * With an error bus, every chunk publishes its failures to it with their element
+ * number in the file.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorBinaryBatch {
+
+    /**
+     * Default number of angles per mapped chunk (32 MiB of input).
+     */
+    public static final int DEFAULT_CHUNK_ELEMENTS = 1 << 22;
+
+    private final TanCalculatorCore.Engine engine;
+    private final int threads;
+    private final int chunkElements;
+    private final TanCalculatorErrorBus errorBus;
+
+    /**
+     * Create a batch processor with {@link #DEFAULT_CHUNK_ELEMENTS} per chunk.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param threads number of worker threads, at least 1
+     */
+    public TanCalculatorBinaryBatch(TanCalculatorCore.Engine engine, int threads) {
+        this(engine, threads, DEFAULT_CHUNK_ELEMENTS);
+    }
+
+    /**
+     * Create a batch processor.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param threads number of worker threads, at least 1
+     * @param chunkElements angles per mapped chunk, between 1 and 2^28
+     */
+    public TanCalculatorBinaryBatch(TanCalculatorCore.Engine engine, int threads, int chunkElements) {
+        this(engine, threads, chunkElements, null);
+    }
+
+    /**
+     * Create a batch processor reporting failed elements to an error bus.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param threads number of worker threads, at least 1
+     * @param chunkElements angles per mapped chunk, between 1 and 2^28
+     * @param errorBus the bus receiving error events, or {@code null} for none
+     */
+    public TanCalculatorBinaryBatch(TanCalculatorCore.Engine engine, int threads, int chunkElements,
+                                    TanCalculatorErrorBus errorBus) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        if (chunkElements < 1 || chunkElements > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException("Chunk size out of range: " + chunkElements);
+        }
+        this.engine = engine;
+        this.threads = threads;
+        this.chunkElements = chunkElements;
+        this.errorBus = errorBus;
+    }
+
+    /**
+     * Evaluate every angle of {@code input} into {@code output}, replacing any existing
+     * output file.
+     *
+     * @param input file of little-endian double degrees
+     * @param output file receiving the tangents and the status column
+     * @return the number of elements that were undefined or non-finite
+     * @throws IOException if a file cannot be mapped, or the input size is not a multiple of 8
+     */
+    public long process(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            if (size % Double.BYTES != 0) {
+                throw new IOException("Input size " + size + " is not a multiple of " + Double.BYTES + " bytes");
+            }
+            long n = size / Double.BYTES;
+            if (n == 0) {
+                return 0;
+            }
+            out.write(ByteBuffer.allocate(1), n * (Double.BYTES + 1) - 1);    // size the output once
+
+            long chunks = (n + chunkElements - 1) / chunkElements;
+            ExecutorService pool = Executors.newFixedThreadPool((int) Math.min(threads, chunks));
+            try {
+                List<Future<Long>> results = new ArrayList<>();
+                for (long c = 0; c < chunks; c++) {
+                    long first = c * chunkElements;
+                    int len = (int) Math.min(chunkElements, n - first);
+                    results.add(pool.submit(() -> processChunk(in, out, n, first, len)));
+                }
+                long failures = 0;
+                for (Future<Long> result : results) {
+                    failures += result.get();
+                }
+                return failures;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Batch interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Batch chunk failed", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private long processChunk(FileChannel in, FileChannel out, long n, long first, int len) throws IOException {
+        MappedByteBuffer degrees = in.map(FileChannel.MapMode.READ_ONLY, first * Double.BYTES, (long) len * Double.BYTES);
+        MappedByteBuffer tangents = out.map(FileChannel.MapMode.READ_WRITE, first * Double.BYTES, (long) len * Double.BYTES);
+        MappedByteBuffer status = out.map(FileChannel.MapMode.READ_WRITE, n * Double.BYTES + first, len);
+        TanCalculatorCore core = new TanCalculatorCore(engine);
+        core.setErrorBus(errorBus);
+        int ok = core.calculateTangents(
+            degrees.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+            tangents.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+            status, first);
+        return len - ok;
+    }
+}
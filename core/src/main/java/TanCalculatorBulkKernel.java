@@ -0,0 +1,26 @@
+/**
+ * TanCalculatorBulkKernel - Strategy for evaluating blocks of tangents.
+ * 
+ * Implemented by the scalar loop in {@link TanCalculatorCore} and by the
+ * optional SIMD kernel. Implementations follow the contract of
+ * {@link TanCalculatorCore#calculateTangents} but may assume that the range
+ * has already been bounds-checked.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+interface TanCalculatorBulkKernel {
+
+    /**
+     * Evaluate tangents for elements {@code [off, off + len)}.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process
+     * @param len number of elements to process
+     * @return the number of elements evaluated with {@link TanCalculatorCore#STATUS_OK}
+     */
+    int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len);
+}
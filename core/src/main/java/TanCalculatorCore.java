@@ -0,0 +1,1075 @@
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TanCalculatorCore - Core mathematical features for tangent calculations.
+ * 
+ * This class contains all mathematical operations including:
+ * - Input validation and parsing
+ * - Trigonometric calculations using Maclaurin series
+ * - Angle conversions and normalization
+ * - Mathematical constants and precision handling
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TanCalculatorCore {
+
+    /**
+     * Library version following semantic versioning; {@code TanCalculator.VERSION}
+     * in the gui module refers to it.
+     */
+    public static final String VERSION = "1.0.0";
+    
+    /**
+     * Mathematical constant π required for FR-2, FR-9 and series calculations.
+     */
+    static final double PI = 3.14159265358979323846264338327950288419716939937510;
+
+    /**
+     * Epsilon threshold (1e-12) used to decide when tan(x) is undefined (FR-5).
+     */
+    static final double EPS = 1e-12;
+
+    /**
+     * Maximum number of terms for Maclaurin series calculations.
+     */
+    static final int MAX_SERIES_TERMS = 15;
+
+    /**
+     * Series terms needed once the argument is reduced into [−π/4, π/4]; the first
+     * omitted terms, (π/4)^19/19! and (π/4)^18/18!, are below half an ulp of the result.
+     */
+    static final int REDUCED_SERIES_TERMS = 9;
+
+    /**
+     * 2/π, used to pick the nearest quarter turn.
+     */
+    static final double TWO_OVER_PI = 6.36619772367581382433e-01;
+
+    /**
+     * First 33 bits of π/2, so that k·PIO2_HI is exact for any |k| below 2^20.
+     */
+    static final double PIO2_HI = 1.57079632673412561417e+00;
+
+    /**
+     * π/2 − PIO2_HI.
+     */
+    static final double PIO2_LO = 6.07710050650619224932e-11;
+
+    /**
+     * Largest |x| reduced directly by quarter turns; larger arguments use Payne–Hanek.
+     */
+    private static final double MAX_QUADRANT_ARGUMENT = 0x1p19 * PIO2_HI;
+
+    /**
+     * Index of sin(x) in the array filled by {@link #sincos(double, double[])}.
+     */
+    public static final int SIN = 0;
+
+    /**
+     * Index of cos(x) in the array filled by {@link #sincos(double, double[])}.
+     */
+    public static final int COS = 1;
+
+    /**
+     * Status code: the value was evaluated successfully.
+     */
+    public static final byte STATUS_OK = 0;
+
+    /**
+     * Status code: tan(x) is undefined at the angle (FR‑5).
+     */
+    public static final byte STATUS_UNDEFINED = 1;
+
+    /**
+     * Status code: the input is NaN or infinite (FR‑6).
+     */
+    public static final byte STATUS_INVALID_NONFINITE = 2;
+
+    /**
+     * Status code: the input is null, empty or blank (FR‑6).
+     */
+    public static final byte STATUS_INVALID_EMPTY = 3;
+
+    /**
+     * Status code: the input is not a number (FR‑6).
+     */
+    public static final byte STATUS_INVALID_NONNUMERIC = 4;
+
+    /**
+     * SIMD kernels for the bulk path indexed by {@link Engine#ordinal()}, or
+     * {@code null} when the Vector API is unavailable.
+     */
+    private static final TanCalculatorBulkKernel[] VECTOR_KERNELS = loadVectorKernels();
+
+    /**
+     * Elements copied per step by the buffer bulk path; small enough for the scratch
+     * arrays to stay in L1 cache.
+     */
+    private static final int BUFFER_CHUNK = 512;
+
+    /**
+     * Polynomial engines available for sin/cos on the reduced range.
+     */
+    public enum Engine {
+        /**
+         * Maclaurin series with per-term division (FR‑3); the default.
+         */
+        SERIES,
+
+        /**
+         * Division-free minimax polynomials, see {@link TanCalculatorMinimax}.
+         */
+        MINIMAX
+    }
+
+    /**
+     * Engine used by {@link #tan(double)} and the bulk paths.
+     */
+    private final Engine engine;
+
+    /**
+     * SIMD kernel matching {@link #engine}, or {@code null} for the scalar loop.
+     */
+    private final TanCalculatorBulkKernel vectorKernel;
+
+    /**
+     * Whether series evaluations are counted; off by default to keep the hot path lean.
+     */
+    private volatile boolean instrumented;
+
+    /**
+     * Number of series evaluations recorded while instrumented.
+     */
+    private final LongAdder seriesEvaluations = new LongAdder();
+
+    /**
+     * Total series terms used by the recorded evaluations.
+     */
+    private final LongAdder seriesTermsUsed = new LongAdder();
+
+    /**
+     * Optional result cache for degree inputs, keyed on the reduced angle in [−180, 180].
+     */
+    private TanCalculatorResultCache degreeCache;
+
+    /**
+     * Optional result cache for radian inputs, keyed on the reduced angle and quadrant parity.
+     */
+    private TanCalculatorResultCache radianCache;
+
+    /**
+     * Optional receiver of failed evaluations; failures cost nothing extra without one.
+     */
+    private TanCalculatorErrorBus errorBus;
+
+    /**
+     * Staging arrays of the SIMD buffer bulk path, allocated by its first call.
+     */
+    private BufferScratch bufferScratch;
+
+    /**
+     * Default constructor for TanCalculatorCore, using the Maclaurin series engine.
+     */
+    public TanCalculatorCore() {
+        this(Engine.SERIES);
+    }
+
+    /**
+     * Constructor for TanCalculatorCore with an explicit polynomial engine.
+     * 
+     * @param engine the engine evaluating sin/cos on the reduced range
+     */
+    public TanCalculatorCore(Engine engine) {
+        this.engine = Objects.requireNonNull(engine, "engine");
+        // VECTOR_KERNELS is still null while the kernels' own fallback instances are built
+        this.vectorKernel = VECTOR_KERNELS == null ? null : VECTOR_KERNELS[engine.ordinal()];
+    }
+
+    /**
+     * Main calculation method that orchestrates the tangent calculation process.
+     * 
+     * @param input the input string to process
+     * @return the calculated tangent value
+     * @throws TanCalculatorErrorHandler.InvalidInputException if input is invalid
+     * @throws TanCalculatorErrorHandler.UndefinedTangentException if tangent is undefined
+     */
+    public double calculateTangent(String input) throws TanCalculatorErrorHandler.InvalidInputException, 
+                                                      TanCalculatorErrorHandler.UndefinedTangentException {
+        TanCalculatorResult result = new TanCalculatorResult();
+        byte status = tryCalculateTangent(input, result);
+        if (status == STATUS_UNDEFINED) {
+            throw TanCalculatorErrorHandler.undefinedTangent(); // FR‑5
+        }
+        if (status != STATUS_OK) {
+            throw invalidInput(status);
+        }
+        return result.getValue();
+    }
+
+    /**
+     * Exception-free counterpart of {@link #calculateTangent(String)}.
+     * 
+     * @param input the input text to process
+     * @param result holder receiving the tangent value and status
+     * @return the status code, also stored in {@code result}
+     */
+    public byte tryCalculateTangent(CharSequence input, TanCalculatorResult result) {
+        byte status = evaluateInput(input, result);
+        if (status != STATUS_OK && errorBus != null) {
+            errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(status), input, -1);
+        }
+        return status;
+    }
+
+    private byte evaluateInput(CharSequence input, TanCalculatorResult result) {
+        // Step 1: Validate and parse input
+        byte status = tryParseInput(input, result);
+        if (status != STATUS_OK) {
+            return status;
+        }
+
+        // Step 2: Reduce exactly in degrees, convert to radians and calculate tangent
+        double[] sc = new double[2];
+        double t = evaluateTanDegrees(result.getValue(), sc);
+        if (Double.isNaN(t)) {
+            return result.set(Double.NaN, STATUS_UNDEFINED);   // FR‑5
+        }
+        return result.set(t, STATUS_OK);
+    }
+
+    /**
+     * Bulk counterpart of {@link #calculateTangent(String)} for blocks of angles in degrees.
+     * Elements {@code [off, off + len)} of {@code degreesIn} are evaluated into the same
+     * positions of {@code out}, and a {@code STATUS_*} code is written to {@code status}.
+     * Failed elements get {@code NaN} in {@code out}; no exceptions are thrown and nothing
+     * is allocated per element.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process in all three arrays
+     * @param len number of elements to process
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     * @throws IndexOutOfBoundsException if the range does not fit any of the arrays
+     */
+    public int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len) {
+        return calculateTangents(degreesIn, out, status, off, len, 0);
+    }
+
+    /**
+     * {@link #calculateTangents(double[], double[], byte[], int, int)} for one piece of
+     * a larger batch: error events carry {@code firstIndex} plus the element's offset
+     * from {@code off}, its position in the whole batch.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process in all three arrays
+     * @param len number of elements to process
+     * @param firstIndex event index of element {@code off}
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     */
+    int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len, long firstIndex) {
+        Objects.checkFromIndexSize(off, len, degreesIn.length);
+        Objects.checkFromIndexSize(off, len, out.length);
+        Objects.checkFromIndexSize(off, len, status.length);
+
+        int ok = evaluateBlock(degreesIn, out, status, off, len);
+        if (ok < len && errorBus != null) {
+            publishFailures(degreesIn, status, off, len, firstIndex);
+        }
+        return ok;
+    }
+
+    /**
+     * Run the bulk kernel (SIMD when available) without bounds checks or error events,
+     * for callers that check the range and report failures themselves.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process
+     * @param len number of elements to process
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     */
+    int evaluateBlock(double[] degreesIn, double[] out, byte[] status, int off, int len) {
+        if (vectorBlocks()) {
+            return vectorKernel.calculateTangents(degreesIn, out, status, off, len);
+        }
+        return calculateTangentsScalar(degreesIn, out, status, off, len);
+    }
+
+    /**
+     * Report whether bulk blocks go to the SIMD kernel. Its lanes neither consult the
+     * result cache nor count series terms, and it is shared by every core of the engine,
+     * so cached or instrumented cores take the scalar loop to keep their statistics
+     * independent of the runtime flags.
+     * 
+     * @return true if {@link #evaluateBlock} runs the SIMD kernel
+     */
+    private boolean vectorBlocks() {
+        return vectorKernel != null && degreeCache == null && !instrumented;
+    }
+
+    /**
+     * Publish an error event for every failed element of a block.
+     * 
+     * @param degreesIn the block's input angles
+     * @param status the block's status codes
+     * @param off first index of the block
+     * @param len number of elements in the block
+     * @param base event index of element {@code off}
+     */
+    private void publishFailures(double[] degreesIn, byte[] status, int off, int len, long base) {
+        for (int i = 0; i < len; i++) {
+            byte code = status[off + i];
+            if (code != STATUS_OK) {
+                errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(code), degreesIn[off + i], base + i);
+            }
+        }
+    }
+
+    /**
+     * Scalar bulk loop; also the fallback the SIMD kernel uses for tails and special lanes.
+     * Bounds are assumed to have been checked by the caller.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process
+     * @param len number of elements to process
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     */
+    int calculateTangentsScalar(double[] degreesIn, double[] out, byte[] status, int off, int len) {
+        double[] sc = new double[2];
+        int ok = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            double deg = degreesIn[i];
+            if (Double.isNaN(deg) || Double.isInfinite(deg)) {
+                out[i] = Double.NaN;
+                status[i] = STATUS_INVALID_NONFINITE;
+                continue;
+            }
+            double t = evaluateTanDegrees(deg, sc);
+            out[i] = t;
+            if (Double.isNaN(t)) {
+                status[i] = STATUS_UNDEFINED;
+                continue;
+            }
+            status[i] = STATUS_OK;
+            ok++;
+        }
+        return ok;
+    }
+
+    /**
+     * Buffer counterpart of {@link #calculateTangents(double[], double[], byte[], int, int)}.
+     * The elements from the position to the limit of {@code degreesIn} are evaluated into
+     * {@code out} and {@code status} starting at their positions. Without the SIMD kernel,
+     * or on a cached or instrumented core, each element is read and written in place, so
+     * heap, direct and memory-mapped buffers are processed without copying. With it, chunks of at most {@link #BUFFER_CHUNK}
+     * elements are staged with {@link TanCalculatorPlatform} through scratch arrays that
+     * the core allocates on its first such call and then reuses, so the vector lanes can
+     * load them; nothing is allocated per call either way, but a vectorized core must only
+     * be used from one thread at a time. No buffer position is changed.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     * @throws IndexOutOfBoundsException if a destination has fewer remaining elements than the input
+     */
+    public int calculateTangents(DoubleBuffer degreesIn, DoubleBuffer out, ByteBuffer status) {
+        return calculateTangents(degreesIn, out, status, 0);
+    }
+
+    /**
+     * {@link #calculateTangents(DoubleBuffer, DoubleBuffer, ByteBuffer)} for one piece of
+     * a larger batch: error events carry {@code firstIndex} plus the element's offset
+     * from the input position.
+     * 
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param firstIndex event index of the element at the input position
+     * @return the number of elements evaluated with {@link #STATUS_OK}
+     */
+    int calculateTangents(DoubleBuffer degreesIn, DoubleBuffer out, ByteBuffer status, long firstIndex) {
+        int len = degreesIn.remaining();
+        Objects.checkFromIndexSize(0, len, out.remaining());
+        Objects.checkFromIndexSize(0, len, status.remaining());
+        if (!vectorBlocks()) {
+            return calculateTangentsInPlace(degreesIn, out, status, len, firstIndex);
+        }
+
+        int in0 = degreesIn.position();
+        int out0 = out.position();
+        int status0 = status.position();
+        BufferScratch scratch = bufferScratch;
+        if (scratch == null) {
+            scratch = new BufferScratch();
+            bufferScratch = scratch;
+        }
+        int ok = 0;
+        for (int done = 0; done < len; done += BUFFER_CHUNK) {
+            int n = Math.min(BUFFER_CHUNK, len - done);
+            TanCalculatorPlatform.get(degreesIn, in0 + done, scratch.degrees, n);
+            int chunkOk = evaluateBlock(scratch.degrees, scratch.tangents, scratch.codes, 0, n);
+            if (chunkOk < n && errorBus != null) {
+                publishFailures(scratch.degrees, scratch.codes, 0, n, firstIndex + done);
+            }
+            ok += chunkOk;
+            TanCalculatorPlatform.put(out, out0 + done, scratch.tangents, n);
+            TanCalculatorPlatform.put(status, status0 + done, scratch.codes, n);
+        }
+        return ok;
+    }
+
+    /**
+     * Scalar buffer loop reading and writing each element in place.
+     */
+    private int calculateTangentsInPlace(DoubleBuffer degreesIn, DoubleBuffer out, ByteBuffer status, int len,
+                                         long firstIndex) {
+        int in0 = degreesIn.position();
+        int out0 = out.position();
+        int status0 = status.position();
+        double[] sc = new double[2];
+        int ok = 0;
+        for (int i = 0; i < len; i++) {
+            double deg = degreesIn.get(in0 + i);
+            double t = Double.NaN;
+            byte code = STATUS_INVALID_NONFINITE;
+            if (!Double.isNaN(deg) && !Double.isInfinite(deg)) {
+                t = evaluateTanDegrees(deg, sc);
+                code = Double.isNaN(t) ? STATUS_UNDEFINED : STATUS_OK;
+            }
+            out.put(out0 + i, t);
+            status.put(status0 + i, code);
+            if (code == STATUS_OK) {
+                ok++;
+            } else if (errorBus != null) {
+                errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(code), deg, firstIndex + i);
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Send every failed evaluation of this core to an error bus, or stop with
+     * {@code null}. Single inputs are reported with their text and index −1; bulk
+     * elements with their angle and their offset from the first element of the call.
+     * Publishing never blocks, so sinks that touch a UI or a log cannot slow a
+     * headless bulk path down.
+     * 
+     * @param bus the bus receiving error events, or {@code null} for none
+     */
+    public void setErrorBus(TanCalculatorErrorBus bus) {
+        this.errorBus = bus;
+    }
+
+    /**
+     * Get the error bus failures are reported to.
+     * 
+     * @return the bus, or {@code null} if none is set
+     */
+    public TanCalculatorErrorBus getErrorBus() {
+        return errorBus;
+    }
+
+    /**
+     * Report whether the bulk path runs on the Vector API kernel.
+     * 
+     * @return true if {@link #calculateTangents} is SIMD-accelerated while the core is
+     *         neither cached nor instrumented
+     */
+    public boolean isVectorized() {
+        return vectorKernel != null;
+    }
+
+    /**
+     * Enable memoization of {@link #calculateTangent(String)} and {@link #tan(double)}
+     * results, or disable it with a capacity of 0. Results are keyed on the reduced
+     * angle, so for example 45, 405 and −315 degrees share one entry, and the bulk
+     * paths of a cached core run the scalar loop, since SIMD lanes bypass the cache.
+     * Setting the current capacity again empties the cache and resets its hit and miss
+     * counts. A cached core must only be used from one thread at a time.
+     * 
+     * @param capacity maximum entries per angle domain (rounded up to a power of two), or 0 to disable
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    public void setCacheCapacity(int capacity) {
+        if (capacity == 0) {
+            degreeCache = null;
+            radianCache = null;
+            return;
+        }
+        if (degreeCache != null && degreeCache.capacity() == TanCalculatorResultCache.slotsFor(capacity)) {
+            degreeCache.clear();
+            radianCache.clear();
+            return;
+        }
+        degreeCache = new TanCalculatorResultCache(capacity);
+        radianCache = new TanCalculatorResultCache(capacity);
+    }
+
+    /**
+     * Get the capacity of the result cache.
+     * 
+     * @return entries per angle domain, or 0 when caching is disabled
+     */
+    public int getCacheCapacity() {
+        return degreeCache == null ? 0 : degreeCache.capacity();
+    }
+
+    /**
+     * Get the number of results answered from the cache.
+     * 
+     * @return the cache hit count
+     */
+    public long getCacheHits() {
+        return degreeCache == null ? 0 : degreeCache.hits() + radianCache.hits();
+    }
+
+    /**
+     * Get the number of cache lookups that had to evaluate the tangent.
+     * 
+     * @return the cache miss count
+     */
+    public long getCacheMisses() {
+        return degreeCache == null ? 0 : degreeCache.misses() + radianCache.misses();
+    }
+
+    /**
+     * Get the polynomial engine of this instance.
+     * 
+     * @return the engine
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Load the optional SIMD kernels, one per engine. They are only compiled on JDK 17+
+     * and need {@code --add-modules jdk.incubator.vector} at run time; they can be
+     * switched off with {@code -Dtancalculator.vector=false}.
+     * 
+     * @return the kernels indexed by engine ordinal, or null to use the scalar loop
+     */
+    private static TanCalculatorBulkKernel[] loadVectorKernels() {
+        if (!Boolean.parseBoolean(System.getProperty("tancalculator.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> kernelClass = Class.forName("TanCalculatorVectorKernel");
+            Engine[] engines = Engine.values();
+            TanCalculatorBulkKernel[] kernels = new TanCalculatorBulkKernel[engines.length];
+            for (Engine e : engines) {
+                TanCalculatorBulkKernel scalar = new TanCalculatorCore(e)::calculateTangentsScalar;
+                kernels[e.ordinal()] = (TanCalculatorBulkKernel) kernelClass
+                    .getDeclaredConstructor(Engine.class, TanCalculatorBulkKernel.class)
+                    .newInstance(e, scalar);
+            }
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Kernel not built for this JDK - stay on the scalar loop
+            return null;
+        }
+    }
+
+    /**
+     * Validate numeric input (implements FR‑6).
+     * Rejects empty, non‑numeric strings, NaN, and infinity.
+     * 
+     * @param s the input string to validate
+     * @return the parsed double value
+     * @throws TanCalculatorErrorHandler.InvalidInputException if input is invalid
+     */
+    public double parseInput(String s) throws TanCalculatorErrorHandler.InvalidInputException {
+        TanCalculatorResult result = new TanCalculatorResult();
+        byte status = tryParseInput(s, result);
+        if (status != STATUS_OK) {
+            throw invalidInput(status);
+        }
+        return result.getValue();
+    }
+
+    /**
+     * Exception-free counterpart of {@link #parseInput(String)}. The text is parsed in
+     * place by {@link TanCalculatorParser}, with results bit-identical to
+     * {@link Double#parseDouble}.
+     * 
+     * @param s the input text to validate
+     * @param result holder receiving the parsed value and status
+     * @return {@link #STATUS_OK}, {@link #STATUS_INVALID_EMPTY},
+     *         {@link #STATUS_INVALID_NONNUMERIC} or {@link #STATUS_INVALID_NONFINITE}
+     */
+    public byte tryParseInput(CharSequence s, TanCalculatorResult result) {
+        byte status = TanCalculatorParser.parse(s, result);
+        if (status == STATUS_OK && !Double.isFinite(result.getValue())) {
+            return result.set(Double.NaN, STATUS_INVALID_NONFINITE);
+        }
+        return status;
+    }
+
+    /**
+     * Map an input status to its exception, keeping the messages of FR‑6.
+     * 
+     * @param status one of the {@code STATUS_INVALID_*} codes
+     * @return the exception to throw, shared and stackless unless full traces are enabled
+     */
+    private static TanCalculatorErrorHandler.InvalidInputException invalidInput(byte status) {
+        switch (status) {
+            case STATUS_INVALID_EMPTY:
+                return TanCalculatorErrorHandler.emptyInput();
+            case STATUS_INVALID_NONFINITE:
+                return TanCalculatorErrorHandler.nonFiniteInput();
+            default:
+                return TanCalculatorErrorHandler.nonNumericInput();
+        }
+    }
+
+    /**
+     * Reduce an angle in degrees into [−180, 180] without rounding error. The
+     * remainder modulo 360 is exact in binary floating point, so even inputs
+     * such as 1e15° keep their true position on the circle, at constant cost.
+     * 
+     * @param deg finite angle in degrees
+     * @return the equivalent angle in [−180, 180]
+     */
+    public double reduceDegrees(double deg) {
+        double d;
+        if (Math.abs(deg) < 0x1p52) {
+            // 360·q is an exact integer and deg − 360·q is representable, so no rounding
+            // occurs; this avoids the much slower floating-point remainder instruction
+            d = deg - 360.0 * (long) (deg * (1.0 / 360.0));
+        } else {
+            d = deg % 360.0;                            // exact
+        }
+        if (d > 180.0) {
+            d -= 360.0;                                 // exact, d lies in (180, 360)
+        } else if (d < -180.0) {
+            d += 360.0;
+        }
+        return d;
+    }
+
+    /**
+     * Convert degrees to radians using the hand‑coded π/180 rule (FR‑2).
+     * 
+     * @param deg angle in degrees
+     * @return angle in radians
+     */
+    public double toRadians(double deg) {
+        return deg * PI / 180.0;
+    }
+
+    /**
+     * Normalise radians into [−π, π] before series evaluation (FR‑9).
+     * 
+     * @param r angle in radians
+     * @return normalized angle in radians
+     */
+    public double normalizeRadians(double r) {
+        double twoPi = 2 * PI;
+        r = r % twoPi;
+        if (r > PI) {
+            r -= twoPi;
+        }
+        if (r < -PI) {
+            r += twoPi;
+        }
+        return r;
+    }
+
+    /**
+     * Compute tan(x) = sin(x)/cos(x).
+     *   • Reduces x by quarter turns into [−π/4, π/4] (see {@link #reduceQuadrant}).
+     *   • Evaluates sin/cos of the reduced angle with the selected {@link Engine} (FR‑3).
+     *   • Detects |cos(x)| < EPS to uphold FR‑5 (UNDEFINED).
+     * 
+     * @param x angle in radians
+     * @return tangent value, or NaN when x is NaN or infinite
+     * @throws TanCalculatorErrorHandler.UndefinedTangentException when tangent is undefined
+     */
+    public double tan(double x) throws TanCalculatorErrorHandler.UndefinedTangentException {
+        if (Double.isNaN(x) || Double.isInfinite(x)) {
+            return Double.NaN;
+        }
+        double[] sc = new double[2];                    // scalar-replaced once inlined by the JIT
+        double t = evaluateTan(x, sc);
+        if (Double.isNaN(t)) {
+            throw TanCalculatorErrorHandler.undefinedTangent(); // FR‑5
+        }
+        return t;                                       // FR‑4
+    }
+
+    /**
+     * Exception-free counterpart of {@link #tan(double)}.
+     * 
+     * @param x angle in radians
+     * @param result holder receiving the tangent value and status
+     * @return {@link #STATUS_OK}, {@link #STATUS_UNDEFINED} or {@link #STATUS_INVALID_NONFINITE}
+     */
+    public byte tryTan(double x, TanCalculatorResult result) {
+        if (Double.isNaN(x) || Double.isInfinite(x)) {
+            return result.set(Double.NaN, STATUS_INVALID_NONFINITE);
+        }
+        double[] sc = new double[2];
+        double t = evaluateTan(x, sc);
+        if (Double.isNaN(t)) {
+            return result.set(Double.NaN, STATUS_UNDEFINED);
+        }
+        return result.set(t, STATUS_OK);
+    }
+
+    /**
+     * Exception-free tangent of a finite angle, shared by {@link #tan} and the bulk loop.
+     * With x = k·π/2 + r, tan(x) is sin(r)/cos(r) for even k and −cos(r)/sin(r) for odd k
+     * (tan/cot complement), and the denominator equals ±cos(x) for the FR‑5 test.
+     * 
+     * Arguments beyond 2^19·π/2 are reduced with {@link TanCalculatorReduction#payneHanek}.
+     * 
+     * @param x finite angle in radians
+     * @param sc scratch array of length 2
+     * @return tangent value, or NaN when |cos(x)| &lt; EPS
+     */
+    double evaluateTan(double x, double[] sc) {
+        int k;
+        double r;
+        if (Math.abs(x) > MAX_QUADRANT_ARGUMENT) {
+            k = TanCalculatorReduction.payneHanek(x, sc);
+            r = sc[0];
+        } else {
+            k = quadrant(x);
+            r = reduceQuadrant(x, k);
+        }
+        TanCalculatorResultCache cache = radianCache;
+        if (cache == null) {
+            return evaluateReduced(r, k, sc);
+        }
+        // |r| < 1 never sets the top exponent bit, so it can carry the quadrant parity
+        long key = Double.doubleToRawLongBits(r) | ((long) (k & 1) << 62);
+        double t = cache.get(key);
+        if (t == TanCalculatorResultCache.MISS) {
+            t = evaluateReduced(r, k, sc);
+            cache.put(key, t);
+        }
+        return t;
+    }
+
+    /**
+     * Exception-free tangent of a finite angle in degrees, shared by
+     * {@link #calculateTangent(String)} and the bulk loop. The angle is reduced
+     * exactly in degrees ({@link #reduceDegrees}) and split as d = 90·k + r, which is
+     * also exact, so only |r| ≤ 45° is converted to radians (FR‑2) and exact
+     * multiples of 90° land precisely on the asymptote. Quarter-degree multiples are
+     * answered from {@link TanCalculatorDegreeTable} without evaluating any series;
+     * other angles go through the optional result cache keyed on the reduced angle.
+     * 
+     * @param deg finite angle in degrees
+     * @param sc scratch array of length 2
+     * @return tangent value, or NaN when |cos(x)| &lt; EPS
+     */
+    double evaluateTanDegrees(double deg, double[] sc) {
+        double d = reduceDegrees(deg);
+        double t = TanCalculatorDegreeTable.lookup(d);
+        if (t != Double.POSITIVE_INFINITY) {
+            return t;                                   // whole/half/quarter degree, NaN at 90°
+        }
+        TanCalculatorResultCache cache = degreeCache;
+        long key = Double.doubleToRawLongBits(d);
+        if (cache != null) {
+            t = cache.get(key);
+            if (t != TanCalculatorResultCache.MISS) {
+                return t;
+            }
+        }
+        int k = (int) Math.rint(d * (1.0 / 90.0));
+        t = evaluateReduced(toRadians(d - 90.0 * k), k, sc);
+        if (cache != null) {
+            cache.put(key, t);
+        }
+        return t;
+    }
+
+    /**
+     * Sine and cosine of a finite angle in degrees, reduced exactly as in
+     * {@link #evaluateTanDegrees} and evaluated with the selected engine. Their
+     * quotient is the tangent {@link #evaluateTanDegrees} computes outside the
+     * quarter-degree table; used to anchor {@link TanCalculatorSweep}.
+     * 
+     * @param deg finite angle in degrees
+     * @param sc array receiving sin at {@link #SIN} and cos at {@link #COS}
+     */
+    void sincosDegrees(double deg, double[] sc) {
+        double d = reduceDegrees(deg);
+        int k = (int) Math.rint(d * (1.0 / 90.0));
+        sincosReduced(toRadians(d - 90.0 * k), sc);
+        double s = sc[SIN];
+        double c = sc[COS];
+        switch (k & 3) {
+            case 1:
+                sc[SIN] = c;
+                sc[COS] = -s;
+                break;
+            case 2:
+                sc[SIN] = -s;
+                sc[COS] = -c;
+                break;
+            case 3:
+                sc[SIN] = -c;
+                sc[COS] = s;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Sine and cosine of a reduced angle with the selected {@link Engine}.
+     * 
+     * @param r reduced angle in radians, |r| ≤ π/4
+     * @param sc array receiving sin(r) at {@link #SIN} and cos(r) at {@link #COS}
+     */
+    private void sincosReduced(double r, double[] sc) {
+        if (engine == Engine.MINIMAX) {
+            TanCalculatorMinimax.sincos(r, sc);
+        } else {
+            sincosSeries(r, REDUCED_SERIES_TERMS, sc);
+        }
+    }
+
+    /**
+     * Tangent from a reduced angle r in [−π/4, π/4] and its quadrant k.
+     * 
+     * @param r reduced angle in radians
+     * @param k quadrant index; only its parity is used
+     * @param sc scratch array of length 2
+     * @return tangent value, or NaN when |cos(x)| &lt; EPS
+     */
+    private double evaluateReduced(double r, int k, double[] sc) {
+        sincosReduced(r, sc);
+        double num = sc[SIN];
+        double den = sc[COS];
+        if ((k & 1) != 0) {
+            num = -sc[COS];
+            den = sc[SIN];
+        }
+        if (Math.abs(den) < EPS) {
+            return Double.NaN;
+        }
+        return num / den;
+    }
+
+    /**
+     * Nearest quarter turn: the integer k with x − k·π/2 in [−π/4, π/4].
+     * 
+     * @param x angle in radians, |x| at most 2^19·π/2
+     * @return the quadrant index k
+     */
+    public int quadrant(double x) {
+        return (int) Math.rint(x * TWO_OVER_PI);
+    }
+
+    /**
+     * Reduce x by k quarter turns, r = x − k·π/2, with π/2 split into two parts
+     * (Cody–Waite) so that r keeps its low bits next to the axes, e.g. near 90°.
+     * 
+     * @param x angle in radians
+     * @param k quadrant index, normally {@link #quadrant(double)} of x
+     * @return the reduced angle, in [−π/4, π/4] when k is the nearest quadrant
+     */
+    public double reduceQuadrant(double x, int k) {
+        return (x - k * PIO2_HI) - k * PIO2_LO;
+    }
+
+    /**
+     * Fused Maclaurin series for sin(x) and cos(x) in a single pass (FR‑3).
+     * Shares −x² across both series and runs them as two independent chains in one
+     * loop; the results are bit-identical to {@link #sin(double)} and {@link #cos(double)}.
+     * 
+     * @param x angle in radians
+     * @param dest array receiving sin(x) at {@link #SIN} and cos(x) at {@link #COS}
+     */
+    public void sincos(double x, double[] dest) {
+        sincosSeries(x, MAX_SERIES_TERMS, dest);
+    }
+
+    /**
+     * Fused sin/cos series with at most the given number of terms. Stops as soon as
+     * neither sum changes; later terms only get smaller, so the result is the same as
+     * running all terms.
+     * 
+     * @param x angle in radians
+     * @param terms maximum number of series terms for each function
+     * @param dest array receiving sin(x) at {@link #SIN} and cos(x) at {@link #COS}
+     */
+    private void sincosSeries(double x, int terms, double[] dest) {
+        double negX2 = -x * x;
+        double sinTerm = x;
+        double sinSum = x;
+        double cosTerm = 1.0;
+        double cosSum = 1.0;
+        int n = 1;
+        for (; n < terms; n++) {
+            sinTerm *= negX2 / ((2 * n) * (2 * n + 1));
+            cosTerm *= negX2 / ((2 * n - 1) * (2 * n));
+            double sinNext = sinSum + sinTerm;
+            double cosNext = cosSum + cosTerm;
+            if (sinNext == sinSum && cosNext == cosSum) {
+                break;
+            }
+            sinSum = sinNext;
+            cosSum = cosNext;
+        }
+        recordSeriesTerms(n);
+        dest[SIN] = sinSum;
+        dest[COS] = cosSum;
+    }
+
+    /**
+     * Maclaurin series for sin(x) with configurable terms (FR‑3).
+     * Stops early once the next term can no longer change the sum.
+     * 
+     * @param x angle in radians
+     * @return sine value
+     */
+    public double sin(double x) {
+        double term = x;
+        double sum = x;
+        int n = 1;
+        for (; n < MAX_SERIES_TERMS; n++) {
+            term *= -x * x / ((2 * n) * (2 * n + 1));
+            double next = sum + term;
+            if (next == sum) {
+                break;
+            }
+            sum = next;
+        }
+        recordSeriesTerms(n);
+        return sum;
+    }
+
+    /**
+     * Maclaurin series for cos(x) with configurable terms (FR‑3).
+     * Stops early once the next term can no longer change the sum.
+     * 
+     * @param x angle in radians
+     * @return cosine value
+     */
+    public double cos(double x) {
+        double term = 1.0;
+        double sum = 1.0;
+        int n = 1;
+        for (; n < MAX_SERIES_TERMS; n++) {
+            term *= -x * x / ((2 * n - 1) * (2 * n));
+            double next = sum + term;
+            if (next == sum) {
+                break;
+            }
+            sum = next;
+        }
+        recordSeriesTerms(n);
+        return sum;
+    }
+
+    /**
+     * Count one series evaluation that used the given number of terms.
+     * 
+     * @param terms terms that contributed to the sum, including the leading one
+     */
+    private void recordSeriesTerms(int terms) {
+        if (instrumented) {
+            seriesEvaluations.increment();
+            seriesTermsUsed.add(terms);
+        }
+    }
+
+    /**
+     * Enable or disable counting of series evaluations and the terms they use. The
+     * bulk paths of an instrumented core run the scalar loop, so every evaluation is
+     * counted whether or not the SIMD kernel is loaded.
+     * 
+     * @param enabled true to record {@link #getSeriesEvaluations()} and {@link #getSeriesTermsUsed()}
+     */
+    public void setInstrumented(boolean enabled) {
+        this.instrumented = enabled;
+    }
+
+    /**
+     * Report whether series instrumentation is enabled.
+     * 
+     * @return true if series evaluations are being counted
+     */
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    /**
+     * Get the number of series evaluations recorded since the last reset.
+     * 
+     * @return the series evaluation count
+     */
+    public long getSeriesEvaluations() {
+        return seriesEvaluations.sum();
+    }
+
+    /**
+     * Get the total number of series terms used since the last reset.
+     * 
+     * @return the series term count
+     */
+    public long getSeriesTermsUsed() {
+        return seriesTermsUsed.sum();
+    }
+
+    /**
+     * Clear the series instrumentation counters.
+     */
+    public void resetInstrumentation() {
+        seriesEvaluations.reset();
+        seriesTermsUsed.reset();
+    }
+
+    /**
+     * Get the mathematical constant π.
+     * 
+     * @return the value of π
+     */
+    public double getPI() {
+        return PI;
+    }
+
+    /**
+     * Get the epsilon threshold for undefined tangent detection.
+     * 
+     * @return the epsilon value
+     */
+    public double getEPS() {
+        return EPS;
+    }
+
+    /**
+     * Get the maximum number of terms for Maclaurin series.
+     * 
+     * @return the maximum series terms
+     */
+    public int getMaxSeriesTerms() {
+        return MAX_SERIES_TERMS;
+    }
+
+    /**
+     * Staging arrays of one core's buffer bulk calls.
+     */
+    private static final class BufferScratch {
+        final double[] degrees = new double[BUFFER_CHUNK];
+        final double[] tangents = new double[BUFFER_CHUNK];
+        final byte[] codes = new byte[BUFFER_CHUNK];
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * TanCalculatorDegreeTable - Precomputed tangents of whole and fractional degrees.
+ * 
+ * Holds tan(q/4 °) for q = 0..359, i.e. every quarter degree in [0°, 90°),
+ * each correctly rounded to the nearest double (computed offline with
+ * 60-digit decimal arithmetic). Together with the symmetries
+ * tan(−d) = −tan(d) and tan(180° − d) = −tan(d) this covers every whole,
+ * half and quarter degree after {@link TanCalculatorCore#reduceDegrees}.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorDegreeTable {
+
+    /**
+     * Table resolution: entries per degree.
+     */
+    static final int STEPS_PER_DEGREE = 4;
+
+    /**
+     * Table index of 90°, where tan(x) is undefined (FR‑5).
+     */
+    static final int ASYMPTOTE_INDEX = 90 * STEPS_PER_DEGREE;
+
+    private static final double[] TAN_QUARTER_DEGREES = {
+        0.0, 0.004363350820701567, 0.00872686779075879, 0.013090717084835085,
+        0.017455064928217585, 0.021820077622149475, 0.026185921569186928, 0.030552763298588862,
+        0.03492076949174773, 0.03929010700766964, 0.043660942908512065, 0.04803344448518746,
+        0.0524077792830412, 0.05678411512761214, 0.061162620150484306, 0.06554346281523823,
+        0.06992681194351041, 0.07431283674116959, 0.07870170682461845, 0.08309359224722948,
+        0.08748866352592401, 0.09188709166790293, 0.09628904819753861, 0.10069470518343658,
+        0.10510423526567646, 0.10951781168324146, 0.1139356083016455, 0.11835779964076784,
+        0.12278456090290459, 0.12721606800104693, 0.13165249758739586, 0.13609402708212354,
+        0.14054083470239145, 0.1449930994916353, 0.14945100134912778, 0.15391472105982906,
+        0.1583844403245363, 0.16286034179034306, 0.16734260908141954, 0.17183142683012517,
+        0.17632698070846498, 0.18082945745990153, 0.18533904493153439, 0.18985593210665913,
+        0.19438030913771848, 0.198912367379658, 0.20345229942369936, 0.20800029913154422,
+        0.21255656167002213, 0.21712128354619611, 0.2216946626429399, 0.22627689825500077,
+        0.23086819112556312, 0.23546874348332678, 0.24007875908011603, 0.24469844322903436,
+        0.24932800284318068, 0.2539676464749437, 0.2586175843558903, 0.2632780284372659,
+        0.2679491924311227, 0.272631291852095, 0.2773245440598385, 0.28202916830215313,
+        0.2867453857588079, 0.2914734195860876, 0.29621349496208027, 0.3009658391327281,
+        0.30573068145866034, 0.31050825346283106, 0.3152987888789835, 0.3201025237009637,
+        0.32491969623290634, 0.32975054714031665, 0.33459531950207316, 0.3394542588633758,
+        0.34432761328966527, 0.34921563342153994, 0.35411857253069806, 0.35903668657693166,
+        0.36397023426620234, 0.3689194771098271, 0.3738846794848047, 0.37886610869531406,
+        0.3838640350354158, 0.38887873185298966, 0.3939104756149424, 0.3989595459737194,
+        0.4040262258351568, 0.4091108014277097, 0.41421356237309503, 0.41933480175838683,
+        0.42447481620960476, 0.42963390596683604, 0.4348123749609336, 0.4400105308918334,
+        0.44522868530853615, 0.4504671536907989, 0.45572625553258467, 0.46100631442731815,
+        0.4663076581549986, 0.4716306187712211, 0.4769755326981602, 0.4823427408175705,
+        0.48773258856586144, 0.4931454260313041, 0.4985816080534315, 0.504041494324693,
+        0.5095254494944288, 0.5150338432752289, 0.5205670505517462, 0.526125451492034,
+        0.5317094316614788, 0.5373193821394064, 0.5429556996384369, 0.5486187866266675,
+        0.5543090514527689, 0.560026908474077, 0.56577277818777, 0.5715470873652223,
+        0.5773502691896257, 0.5831827633969806, 0.5890450164205511, 0.5949374815388934,
+        0.6008606190275604, 0.6068148963145961, 0.612800788139932, 0.6188187767188065,
+        0.6248693519093275, 0.6309530113843063, 0.6370702608074932, 0.6432216140143519,
+        0.6494075931975106, 0.6556287290970377, 0.6618855611956915, 0.6681786379192989,
+        0.6745085168424266, 0.68087576489951, 0.6872809586016132, 0.6937246842590017,
+        0.7002075382097098, 0.7067301270542989, 0.7132930678970054, 0.7198969885934835,
+        0.7265425280053609, 0.7332303362618272, 0.7399610750284876, 0.7467354177837217,
+        0.7535540501027942, 0.7604176699499787, 0.7673269879789604, 0.7742827278417952,
+        0.7812856265067174, 0.7883364345850925, 0.7954359166678284, 0.8025848516715693,
+        0.8097840331950071, 0.8170342698856623, 0.8243363858174958, 0.8316912208797311,
+        0.83909963117728, 0.8465624894431795, 0.8540806854634666, 0.8616551265149343,
+        0.8692867378162267, 0.8769764629927569, 0.8847252645559438, 0.8925341243972896,
+        0.9004040442978399, 0.9083360464535893, 0.9163311740174234, 0.9243904916582071,
+        0.9325150861376617, 0.9407060669056949, 0.9489645667148797, 0.957291742254808,
+        0.965688774807074, 0.974156870921681, 0.9826972631156901, 0.9913112105949782,
+        1.0, 1.0087649461764958, 1.0176073929721252, 1.0265287140600547,
+        1.0355303137905696, 1.0446136280718321, 1.0537801252809622, 1.0630313072066635,
+        1.0723687100246826, 1.081793905307444, 1.0913085010692714, 1.1009141428486666,
+        1.1106125148291928, 1.1204053410005808, 1.130294386361753, 1.1402814581675487,
+        1.1503684072210096, 1.1605571292131898, 1.1708495661125393, 1.1812477076060186,
+        1.19175359259421, 1.2023693107428, 1.2130970040929328, 1.223938868733061,
+        1.2348971565350515, 1.245974176957449, 1.2571722989189547, 1.2684939527453245,
+        1.2799416321930788, 1.2915178965535756, 1.3032253728412058, 1.3150667580696558,
+        1.32704482162041, 1.339162407707882, 1.3514224379458084, 1.3638279140197942,
+        1.3763819204711736, 1.3890876275976298, 1.401948294476336, 1.414967272115695,
+        1.4281480067421144, 1.4414940432286112, 1.4550090286724449, 1.4686967161293947,
+        1.4825609685127403, 1.496605762665489, 1.510835193614901, 1.525253479018905,
+        1.539864963814583, 1.5546741250795213, 1.5696855771174902, 1.5849040767806266,
+        1.6003345290410504, 1.6159819928256696, 1.6318516871287896, 1.6479489974180885,
+        1.6642794823505178, 1.680848880815767, 1.697663119326089, 1.7147283197725207,
+        1.7320508075688772, 1.7496371202063243, 1.767494016242891, 1.785628484753941,
+        1.804047755271424, 1.8227593082416538, 1.841770886033458, 1.8610905045307895,
+        1.880726465346332, 1.9006873686952603, 1.9209821269711658, 1.9416199790692397,
+        1.9626105055051506, 1.9839636443816684, 2.0056897082590197, 2.027799401989225,
+        2.050303841579296, 2.0732145741532273, 2.0965435990881747, 2.1203033904062125,
+        2.1445069205095586, 2.1691676853542514, 2.194299731165038, 2.2199176828026865,
+        2.246036773904216, 2.2726728789266804, 2.299842547236257, 2.3275630393965954,
+        2.3558523658237527, 2.384729327989767, 2.414213562373095, 2.44432558737196,
+        2.475086853416296, 2.5065197965356436, 2.5386478956643073, 2.5714957339915325,
+        2.6050890646938014, 2.63945488141882, 2.6746214939268236, 2.7106186093349054,
+        2.747477419454622, 2.785230694762797, 2.8239128856008007, 2.8635602312594495,
+        2.9042108776758226, 2.9459050045457875, 2.988684962742893, 3.032595423031933,
+        3.0776835371752536, 3.1239991126536357, 3.1715948023632126, 3.220526310807721,
+        3.270852618484141, 3.32263622636253, 3.375943422591246, 3.4308445738210684,
+        3.4874144438409087, 3.5457325425597324, 3.6058835087608743, 3.667957530504273,
+        3.732050807568877, 3.798266060923048, 3.866713094898738, 3.9375094185418598,
+        4.010780933535845, 4.086662697171366, 4.165299770090417, 4.246848160001367,
+        4.3314758742841555, 4.41936409643135, 4.510708503662057, 4.605720745876273,
+        4.704630109478455, 4.807685393604058, 4.915157031071205, 5.027339492125848,
+        5.14455401597031, 5.267151723435274, 5.395517174319138, 5.530072445313549,
+        5.671281819617709, 5.819657198031726, 5.975764364433065, 6.14023026727613,
+        6.313751514675043, 6.497104325786254, 6.69115623831741, 6.896879944674128,
+        7.115369722384209, 7.347861044603872, 7.59575411272515, 7.860642257798523,
+        8.144346427974593, 8.448957339821602, 8.776887356869956, 9.130934819007356,
+        9.514364454222585, 9.931008767325846, 10.385397080138159, 10.882921440306179,
+        11.430052302761343, 12.03462232111336, 12.706204736174705, 13.456625313375989,
+        14.300666256711928, 15.25705168826554, 16.349855476099673, 17.610558828867525,
+        19.08113668772821, 20.818827604761506, 22.9037655484312, 25.45169957935708,
+        28.636253282915604, 32.730263715497934, 38.18845929702561, 45.82935117448454,
+        57.28996163075942, 76.39000931113605, 114.58865012930961, 229.1816636094399,
+    };
+
+    private TanCalculatorDegreeTable() {
+        // Static lookup table only
+    }
+
+    /**
+     * Look up tan(d) for an angle in [−180°, 180°] that is a multiple of a quarter degree.
+     * 
+     * @param d reduced angle in degrees
+     * @return the correctly rounded tangent, NaN at ±90° (undefined), or
+     *         {@link Double#POSITIVE_INFINITY} when d is not in the table
+     */
+    static double lookup(double d) {
+        double a = Math.abs(d);
+        boolean negate = d < 0;
+        if (a > 90.0) {
+            a = 180.0 - a;                              // exact, a lies in (90, 180]
+            negate = !negate;
+        }
+        double q = a * STEPS_PER_DEGREE;
+        int index = (int) q;
+        if (index != q) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (index == ASYMPTOTE_INDEX) {
+            return Double.NaN;
+        }
+        double t = TAN_QUARTER_DEGREES[index];
+        return negate ? -t : t;
+    }
+}
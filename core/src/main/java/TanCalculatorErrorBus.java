@@ -0,0 +1,253 @@
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TanCalculatorErrorBus - Delivers error events from evaluation threads to sinks.
+ *
+ * A bounded, lock-free ring buffer of preallocated {@link TanCalculatorErrorEvent}s
+ * with any number of producers and one consumer. Publishing claims a slot with a
+ * single compare-and-set and copies the event into it: it never blocks, locks or
+ * allocates, and when the ring is full the event is dropped and counted in
+ * {@link #getDropped()} rather than slowing the producer down.
+ *
+ * Events reach the sinks, in publication order, from {@link #drain()} - called by
+ * the owner whenever convenient, or by the daemon thread started with
+ * {@link #start()}. Sinks therefore never run on the evaluating thread, and a
+ * headless producer never touches Swing even when one of the sinks updates a label.
+ *
+ * Usage:
+ * <pre>
+ *   TanCalculatorErrorCounters counters = new TanCalculatorErrorCounters();
+ *   try (TanCalculatorErrorBus bus = new TanCalculatorErrorBus(1024, counters).start()) {
+ *       core.setErrorBus(bus);
+ *       core.calculateTangents(degrees, tangents, status, 0, degrees.length);
+ *   }
+ * </pre>
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorErrorBus implements AutoCloseable {
+
+    /**
+     * How long the dispatcher thread sleeps when the ring is empty.
+     */
+    private static final long IDLE_NANOS = 1_000_000L;
+
+    private final TanCalculatorErrorEvent[] slots;
+    private final TanCalculatorErrorSink[] sinks;
+    private final int mask;
+
+    /**
+     * Per slot: equal to the next producer position when free, and to that
+     * position + 1 once the event is written (Vyukov's bounded queue).
+     */
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sinkFailures = new LongAdder();
+    private long head;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    /**
+     * Create a bus.
+     *
+     * @param capacity number of events buffered between drains; a power of two
+     * @param sinks receivers of every event, called in this order
+     * @throws IllegalArgumentException if capacity is not a power of two of at least 2
+     */
+    public TanCalculatorErrorBus(int capacity, TanCalculatorErrorSink... sinks) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two >= 2: " + capacity);
+        }
+        this.sinks = sinks.clone();
+        for (TanCalculatorErrorSink sink : this.sinks) {
+            Objects.requireNonNull(sink, "sink");
+        }
+        this.slots = new TanCalculatorErrorEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new TanCalculatorErrorEvent();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publish a failure of a text input.
+     *
+     * @param kind the error kind
+     * @param input the input text; only the first {@link TanCalculatorErrorEvent#MAX_INPUT_CHARS} are kept
+     * @param index position of the input in its batch or stream, or −1
+     * @return true if the event was queued, false if it was dropped because the ring is full
+     */
+    public boolean publish(TanCalculatorErrorEvent.Kind kind, CharSequence input, long index) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        TanCalculatorErrorEvent event = slots[(int) position & mask];
+        event.set(kind, index, Double.NaN, System.currentTimeMillis(), position);
+        event.setText(input);
+        sequences.setRelease((int) position & mask, position + 1);
+        return true;
+    }
+
+    /**
+     * Publish a failure of a numeric input.
+     *
+     * @param kind the error kind
+     * @param degrees the input angle in degrees
+     * @param index position of the input in its batch or stream, or −1
+     * @return true if the event was queued, false if it was dropped because the ring is full
+     */
+    public boolean publish(TanCalculatorErrorEvent.Kind kind, double degrees, long index) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        slots[(int) position & mask].set(kind, index, degrees, System.currentTimeMillis(), position);
+        sequences.setRelease((int) position & mask, position + 1);
+        return true;
+    }
+
+    /**
+     * Publish a failure of a UTF-8 input line without decoding it first.
+     */
+    boolean publish(TanCalculatorErrorEvent.Kind kind, byte[] utf8, int off, int len, long index) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        TanCalculatorErrorEvent event = slots[(int) position & mask];
+        event.set(kind, index, Double.NaN, System.currentTimeMillis(), position);
+        event.setText(utf8, off, len);
+        sequences.setRelease((int) position & mask, position + 1);
+        return true;
+    }
+
+    private long claim() {
+        long position = tail.get();
+        while (true) {
+            long free = sequences.getAcquire((int) position & mask);
+            if (free == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (free < position) {
+                // The consumer has not freed this slot yet: the ring is full
+                dropped.increment();
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Deliver every published event to the sinks. One caller at a time; a sink that
+     * throws is counted in {@link #getSinkFailures()} and does not stop delivery.
+     *
+     * @return number of events delivered
+     */
+    public synchronized int drain() {
+        int delivered = 0;
+        while (true) {
+            int slot = (int) head & mask;
+            if (sequences.getAcquire(slot) != head + 1) {
+                return delivered;
+            }
+            TanCalculatorErrorEvent event = slots[slot];
+            for (TanCalculatorErrorSink sink : sinks) {
+                try {
+                    sink.onError(event);
+                } catch (RuntimeException e) {
+                    sinkFailures.increment();
+                }
+            }
+            sequences.setRelease(slot, head + slots.length);
+            head++;
+            delivered++;
+        }
+    }
+
+    /**
+     * Start a daemon thread that drains the ring until {@link #close()}.
+     *
+     * @return this bus
+     * @throws IllegalStateException if the bus was already started
+     */
+    public synchronized TanCalculatorErrorBus start() {
+        if (dispatcher != null) {
+            throw new IllegalStateException("Error bus already started");
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatch, "tan-calculator-errors");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        return this;
+    }
+
+    private void dispatch() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Stop the dispatcher thread, if any, and deliver the events still queued.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            thread = dispatcher;
+            running = false;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Get the number of events queued since creation, delivered or not.
+     *
+     * @return events published
+     */
+    public long getPublished() {
+        return tail.get();
+    }
+
+    /**
+     * Get the number of events dropped because the ring was full.
+     *
+     * @return events dropped
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get the number of times a sink threw while handling an event.
+     *
+     * @return sink failures
+     */
+    public long getSinkFailures() {
+        return sinkFailures.sum();
+    }
+}
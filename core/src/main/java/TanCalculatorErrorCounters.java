@@ -0,0 +1,61 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TanCalculatorErrorCounters - Error sink counting events per kind.
+ * 
+ * Counts may be read from any thread while the bus is delivering.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorErrorCounters implements TanCalculatorErrorSink {
+
+    private final LongAdder[] counts = new LongAdder[TanCalculatorErrorEvent.Kind.values().length];
+
+    /**
+     * Create counters, all at zero.
+     */
+    public TanCalculatorErrorCounters() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onError(TanCalculatorErrorEvent event) {
+        counts[event.getKind().ordinal()].increment();
+    }
+
+    /**
+     * Get the number of events of one kind.
+     * 
+     * @param kind the error kind
+     * @return events of that kind delivered so far
+     */
+    public long get(TanCalculatorErrorEvent.Kind kind) {
+        return counts[kind.ordinal()].sum();
+    }
+
+    /**
+     * Get the number of events of all kinds.
+     * 
+     * @return events delivered so far
+     */
+    public long getTotal() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Reset every count to zero.
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+}
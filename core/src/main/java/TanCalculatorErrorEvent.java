@@ -0,0 +1,201 @@
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TanCalculatorErrorEvent - One failed evaluation, as delivered to a {@link TanCalculatorErrorSink}.
+ *
+ * Carries the error kind, where the input came from (its index in a batch or stream,
+ * or −1 for a single input), the input itself - the angle when it was parsed, and the
+ * first {@link #MAX_INPUT_CHARS} characters of the text when there was one - and the
+ * wall-clock time of the failure.
+ *
+ * Events are slots of a {@link TanCalculatorErrorBus} ring buffer and are reused: a
+ * sink must copy what it needs before {@link TanCalculatorErrorSink#onError} returns.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorErrorEvent {
+
+    /**
+     * Characters of the input text kept per event; longer inputs are truncated.
+     */
+    public static final int MAX_INPUT_CHARS = 64;
+
+    /**
+     * Kinds of failure, one per {@code TanCalculatorCore.STATUS_*} error code.
+     */
+    public enum Kind {
+        /**
+         * cos(x) is within EPS of zero (FR‑5).
+         */
+        UNDEFINED_TANGENT(TanCalculatorCore.STATUS_UNDEFINED),
+
+        /**
+         * The input is NaN or infinite (FR‑6).
+         */
+        NON_FINITE_INPUT(TanCalculatorCore.STATUS_INVALID_NONFINITE),
+
+        /**
+         * The input is empty or blank (FR‑6).
+         */
+        EMPTY_INPUT(TanCalculatorCore.STATUS_INVALID_EMPTY),
+
+        /**
+         * The input is not a number (FR‑6).
+         */
+        NON_NUMERIC_INPUT(TanCalculatorCore.STATUS_INVALID_NONNUMERIC);
+
+        private static final Kind[] BY_STATUS = {
+            null, UNDEFINED_TANGENT, NON_FINITE_INPUT, EMPTY_INPUT, NON_NUMERIC_INPUT
+        };
+
+        private final byte status;
+
+        Kind(byte status) {
+            this.status = status;
+        }
+
+        /**
+         * Get the status code reported for this kind.
+         *
+         * @return the {@code TanCalculatorCore.STATUS_*} code
+         */
+        public byte getStatus() {
+            return status;
+        }
+
+        /**
+         * Map a status code to its kind.
+         *
+         * @param status a {@code TanCalculatorCore.STATUS_*} error code
+         * @return the matching kind
+         * @throws IllegalArgumentException if the status is OK or unknown
+         */
+        public static Kind ofStatus(byte status) {
+            if (status <= 0 || status >= BY_STATUS.length) {
+                throw new IllegalArgumentException("Not an error status: " + status);
+            }
+            return BY_STATUS[status];
+        }
+    }
+
+    private final char[] text = new char[MAX_INPUT_CHARS];
+    private Kind kind;
+    private long index;
+    private double angle;
+    private int textLength;
+    private boolean truncated;
+    private boolean textual;
+    private long timestamp;
+    private long sequence;
+
+    TanCalculatorErrorEvent() {
+        // Created by the ring buffer only
+    }
+
+    /**
+     * Get the kind of failure.
+     *
+     * @return the error kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the position of the input in its batch or stream: the offset from the first
+     * element of a bulk call, the line number (from 0) of a stream, or −1 for a single input.
+     *
+     * @return the input index, or −1
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the angle in degrees, when the input was a number.
+     *
+     * @return the angle, or NaN when the input was text
+     */
+    public double getAngle() {
+        return angle;
+    }
+
+    /**
+     * Get the input as text: the original text (truncated to {@link #MAX_INPUT_CHARS}
+     * characters and marked with "..."), or else the angle.
+     *
+     * @return the input text
+     */
+    public String getInput() {
+        if (truncated) {
+            return new String(text, 0, textLength) + "...";
+        }
+        if (textual) {
+            return new String(text, 0, textLength);
+        }
+        return Double.toString(angle);
+    }
+
+    /**
+     * Get the time of the failure.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get the position of this event in its bus's stream, starting at 0. Events
+     * dropped because the ring was full are not numbered; see
+     * {@link TanCalculatorErrorBus#getDropped()}.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    void set(Kind kind, long index, double angle, long timestamp, long sequence) {
+        this.kind = kind;
+        this.index = index;
+        this.angle = angle;
+        this.timestamp = timestamp;
+        this.sequence = sequence;
+        this.textLength = 0;
+        this.truncated = false;
+        this.textual = false;
+    }
+
+    void setText(CharSequence input) {
+        textual = true;
+        if (input == null) {
+            return;
+        }
+        int n = Math.min(input.length(), MAX_INPUT_CHARS);
+        for (int i = 0; i < n; i++) {
+            text[i] = input.charAt(i);
+        }
+        textLength = n;
+        truncated = n < input.length();
+    }
+
+    void setText(byte[] utf8, int off, int len) {
+        int n = Math.min(len, MAX_INPUT_CHARS);
+        textual = true;
+        for (int i = 0; i < n; i++) {
+            byte b = utf8[off + i];
+            if (b < 0) {
+                // Non-ASCII input is rare on this path: decode it properly
+                setText(new String(utf8, off, n, StandardCharsets.UTF_8));
+                truncated |= n < len;
+                return;
+            }
+            text[i] = (char) b;
+        }
+        textLength = n;
+        truncated = n < len;
+    }
+}
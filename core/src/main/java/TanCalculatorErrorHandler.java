@@ -0,0 +1,166 @@
+/**
+ * TanCalculatorErrorHandler - Error handling for the core features.
+ * 
+ * This class contains the custom exceptions thrown by {@link TanCalculatorCore}
+ * and the factories that supply them. It has no Swing dependency; the GUI shows
+ * errors through {@code TanCalculatorErrorDisplay} in the gui module.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TanCalculatorErrorHandler {
+
+    /**
+     * When true, the factory methods build a fresh exception with a full stack trace
+     * instead of returning the shared stackless instance. Initialised from the
+     * {@code tancalculator.fullStackTraces} system property.
+     */
+    private static volatile boolean fullStackTraces = Boolean.getBoolean("tancalculator.fullStackTraces");
+
+    /**
+     * Shared stackless exception for empty input (FR‑6).
+     */
+    private static final InvalidInputException EMPTY_INPUT = new InvalidInputException("Empty input", false);
+
+    /**
+     * Shared stackless exception for non-numeric input (FR‑6).
+     */
+    private static final InvalidInputException NON_NUMERIC_INPUT = new InvalidInputException("Non‑numeric input", false);
+
+    /**
+     * Shared stackless exception for NaN or infinite input (FR‑6).
+     */
+    private static final InvalidInputException NON_FINITE_INPUT = new InvalidInputException("NaN or Infinite value", false);
+
+    /**
+     * Shared stackless exception for an undefined tangent (FR‑5).
+     */
+    private static final UndefinedTangentException COS_ZERO = new UndefinedTangentException("cos≈0", false);
+    
+    /**
+     * Default constructor for TanCalculatorErrorHandler.
+     */
+    public TanCalculatorErrorHandler() {
+        // No initialization needed
+    }
+
+    /**
+     * Enable or disable full stack traces for the factory methods below. Traces
+     * are off by default because the exceptions are thrown on the hot path.
+     * 
+     * @param enabled true to capture a fresh stack trace on every error
+     */
+    public static void setFullStackTraces(boolean enabled) {
+        fullStackTraces = enabled;
+    }
+
+    /**
+     * Report whether full stack traces are enabled.
+     * 
+     * @return true if every error captures a fresh stack trace
+     */
+    public static boolean isFullStackTraces() {
+        return fullStackTraces;
+    }
+
+    /**
+     * Exception for empty input (FR‑6).
+     * 
+     * @return the shared stackless instance, or a fresh traced one when enabled
+     */
+    public static InvalidInputException emptyInput() {
+        return fullStackTraces ? new InvalidInputException(EMPTY_INPUT.getMessage()) : EMPTY_INPUT;
+    }
+
+    /**
+     * Exception for non-numeric input (FR‑6).
+     * 
+     * @return the shared stackless instance, or a fresh traced one when enabled
+     */
+    public static InvalidInputException nonNumericInput() {
+        return fullStackTraces ? new InvalidInputException(NON_NUMERIC_INPUT.getMessage()) : NON_NUMERIC_INPUT;
+    }
+
+    /**
+     * Exception for NaN or infinite input (FR‑6).
+     * 
+     * @return the shared stackless instance, or a fresh traced one when enabled
+     */
+    public static InvalidInputException nonFiniteInput() {
+        return fullStackTraces ? new InvalidInputException(NON_FINITE_INPUT.getMessage()) : NON_FINITE_INPUT;
+    }
+
+    /**
+     * Exception for an undefined tangent (FR‑5).
+     * 
+     * @return the shared stackless instance, or a fresh traced one when enabled
+     */
+    public static UndefinedTangentException undefinedTangent() {
+        return fullStackTraces ? new UndefinedTangentException(COS_ZERO.getMessage()) : COS_ZERO;
+    }
+
+    // ------------------------------------------------------------------
+    // Custom exceptions implementing FR‑5 and FR‑6 behaviours
+    // ------------------------------------------------------------------
+    
+    /**
+     * Exception thrown when input is invalid.
+     * Implements FR-6 behavior for input validation.
+     */
+    public static class InvalidInputException extends Exception {
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * Constructor for InvalidInputException.
+         * 
+         * @param message the error message
+         */
+        public InvalidInputException(String message) {
+            super(message);
+        }
+
+
+        /**
+         * Constructor for a lightweight InvalidInputException. Without a writable stack
+         * trace and with suppression disabled the instance is immutable and can be
+         * shared and thrown repeatedly.
+         * 
+         * @param message the error message
+         * @param writableStackTrace false to skip capturing the stack trace
+         */
+        public InvalidInputException(String message, boolean writableStackTrace) {
+            super(message, null, writableStackTrace, writableStackTrace);
+        }
+    }
+    
+    /**
+     * Exception thrown when tangent is undefined.
+     * Implements FR-5 behavior for undefined tangent detection.
+     */
+    public static class UndefinedTangentException extends Exception {
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * Constructor for UndefinedTangentException.
+         * 
+         * @param message the error message
+         */
+        public UndefinedTangentException(String message) {
+            super(message);
+        }
+
+
+        /**
+         * Constructor for a lightweight UndefinedTangentException. Without a writable stack
+         * trace and with suppression disabled the instance is immutable and can be
+         * shared and thrown repeatedly.
+         * 
+         * @param message the error message
+         * @param writableStackTrace false to skip capturing the stack trace
+         */
+        public UndefinedTangentException(String message, boolean writableStackTrace) {
+            super(message, null, writableStackTrace, writableStackTrace);
+        }
+    }
+} 
\ No newline at end of file
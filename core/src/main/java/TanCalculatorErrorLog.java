@@ -0,0 +1,75 @@
+import java.io.PrintStream;
+import java.time.Instant;
+
+/**
+ * TanCalculatorErrorLog - Error sink writing a rate-limited log.
+ *
+ * Prints one line per event, such as
+ * {@code 2026-01-01T12:00:00.123Z UNDEFINED_TANGENT #42 90.0}, up to a fixed number
+ * of lines per second of event time. Events over the limit are counted instead, and
+ * the first line of the next second reports how many were suppressed, so a flood of
+ * bad input cannot swamp the log or the thread writing it.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorErrorLog implements TanCalculatorErrorSink {
+
+    private final PrintStream out;
+    private final int linesPerSecond;
+    private long second = Long.MIN_VALUE;
+    private int lines;
+    private long suppressed;
+    private long totalSuppressed;
+
+    /**
+     * Create a log.
+     *
+     * @param out destination of the log lines
+     * @param linesPerSecond most events printed per second, at least 1
+     * @throws IllegalArgumentException if linesPerSecond is less than 1
+     */
+    public TanCalculatorErrorLog(PrintStream out, int linesPerSecond) {
+        if (linesPerSecond < 1) {
+            throw new IllegalArgumentException("Lines per second must be at least 1: " + linesPerSecond);
+        }
+        this.out = out;
+        this.linesPerSecond = linesPerSecond;
+    }
+
+    @Override
+    public void onError(TanCalculatorErrorEvent event) {
+        long eventSecond = Math.floorDiv(event.getTimestamp(), 1000L);
+        if (eventSecond != second) {
+            second = eventSecond;
+            lines = 0;
+            if (suppressed > 0) {
+                out.println("... " + suppressed + " more errors suppressed");
+                suppressed = 0;
+            }
+        }
+        if (lines == linesPerSecond) {
+            suppressed++;
+            totalSuppressed++;
+            return;
+        }
+        lines++;
+        StringBuilder line = new StringBuilder(96)
+                .append(Instant.ofEpochMilli(event.getTimestamp()))
+                .append(' ').append(event.getKind());
+        if (event.getIndex() >= 0) {
+            line.append(" #").append(event.getIndex());
+        }
+        out.println(line.append(' ').append(event.getInput()));
+    }
+
+    /**
+     * Get the number of events not printed because of the rate limit.
+     *
+     * @return events suppressed so far
+     */
+    public long getSuppressed() {
+        return totalSuppressed;
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * TanCalculatorErrorSink - Receiver of error events from a {@link TanCalculatorErrorBus}.
+ * 
+ * Sinks are called on the bus's single consumer thread, one event at a time and in
+ * publication order, so an implementation needs no locking of its own. The event
+ * object is reused after {@link #onError} returns.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TanCalculatorErrorSink {
+
+    /**
+     * Handle one failed evaluation.
+     * 
+     * @param event the event; valid only for the duration of this call
+     */
+    void onError(TanCalculatorErrorEvent event);
+}
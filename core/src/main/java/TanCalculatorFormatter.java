@@ -0,0 +1,474 @@
+import java.math.BigInteger;
+
+/**
+ * TanCalculatorFormatter - Allocation-free decimal formatting of results.
+ *
+ * Writes a double either with a fixed number of decimals, matching
+ * {@code String.format("%.<n>f")}, or as the shortest decimal that parses back to
+ * the same double, in the layout of {@link Double#toString(double)}. Output goes
+ * to a caller's {@code char[]} or {@code byte[]} sink; nothing is allocated per call
+ * except by the {@link #format(double)} convenience method.
+ *
+ * The shortest digits come from the Schubfach algorithm (R. Giulietti, "The
+ * Schubfach way to render doubles"), the same method Double.toString uses since
+ * JDK 19. Fixed output rounds those digits half-up as {@code java.util.Formatter}
+ * does; it can only differ from Formatter for the rare values whose legacy JDK
+ * digits were not the shortest ones (JDK-4511638).
+ *
+ * Instances are not thread-safe.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorFormatter {
+
+    /**
+     * Pass as the number of decimals to select shortest round-trip output.
+     */
+    public static final int SHORTEST = -1;
+
+    /**
+     * Largest supported number of fixed decimals.
+     */
+    public static final int MAX_DECIMALS = 340;
+
+    /**
+     * Longest shortest-mode output, e.g. {@code -2.2250738585072014E-308}.
+     */
+    private static final int MAX_SHORTEST_LENGTH = 24;
+
+    // Binary64 parameters for Schubfach
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long C_TINY = 3;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final int BQ_MASK = 0x7FF;
+    private static final long T_MASK = (1L << (P - 1)) - 1;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * Number of decimal digits of the rendered significand.
+     */
+    private static final int H = 17;
+
+    /**
+     * For k in [K_MIN, K_MAX]: g = floor(10^-k · 2^-r) + 1 with 2^125 ≤ 10^-k · 2^-r &lt; 2^126,
+     * stored as the high 63 bits and the low 63 bits at indices 2(k − K_MIN) and 2(k − K_MIN) + 1.
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            BigInteger beta;
+            if (k <= 0) {
+                BigInteger n = BigInteger.TEN.pow(-k);
+                int r = n.bitLength() - 126;
+                beta = r >= 0 ? n.shiftRight(r) : n.shiftLeft(-r);
+            } else {
+                BigInteger d = BigInteger.TEN.pow(k);
+                beta = BigInteger.ONE.shiftLeft(d.bitLength() + 125).divide(d);
+            }
+            BigInteger g = beta.add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private final int decimals;
+    private final byte decimalSeparator;
+    private final byte[] buffer;
+
+    /**
+     * Significand digits of the last conversion, most significant first, and their count.
+     */
+    private final byte[] digits = new byte[H + 1];
+    private int digitCount;
+
+    /**
+     * Decimal exponent of the last conversion: the value is 0.d1d2…dn · 10^decimalExponent.
+     */
+    private int decimalExponent;
+
+    /**
+     * Create a formatter with a point as decimal separator.
+     *
+     * @param decimals number of decimals, or {@link #SHORTEST}
+     */
+    public TanCalculatorFormatter(int decimals) {
+        this(decimals, '.');
+    }
+
+    /**
+     * Create a formatter.
+     *
+     * @param decimals number of decimals in [0, {@link #MAX_DECIMALS}], or {@link #SHORTEST}
+     * @param decimalSeparator decimal separator character, ASCII
+     */
+    public TanCalculatorFormatter(int decimals, char decimalSeparator) {
+        if (decimals < SHORTEST || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException("Decimals out of range: " + decimals);
+        }
+        if (decimalSeparator > 0x7F) {
+            throw new IllegalArgumentException("Decimal separator must be ASCII: " + decimalSeparator);
+        }
+        this.decimals = decimals;
+        this.decimalSeparator = (byte) decimalSeparator;
+        this.buffer = new byte[maxLength()];
+    }
+
+    /**
+     * Get the longest output this formatter can produce, for sizing sinks.
+     *
+     * @return maximum number of characters written by one call
+     */
+    public int maxLength() {
+        // sign, 309 integer digits, separator and decimals
+        return decimals == SHORTEST ? MAX_SHORTEST_LENGTH : 1 + 309 + 1 + decimals;
+    }
+
+    /**
+     * Format a value into a char array.
+     *
+     * @param value the value to format
+     * @param dest destination array
+     * @param off index of the first character to write
+     * @return index after the last character written
+     * @throws IndexOutOfBoundsException if the output does not fit
+     */
+    public int format(double value, char[] dest, int off) {
+        int len = render(value);
+        if (off < 0 || off > dest.length - len) {
+            throw new IndexOutOfBoundsException("Output of " + len + " chars does not fit at " + off);
+        }
+        for (int i = 0; i < len; i++) {
+            dest[off + i] = (char) buffer[i];
+        }
+        return off + len;
+    }
+
+    /**
+     * Format a value into a byte array as ASCII.
+     *
+     * @param value the value to format
+     * @param dest destination array
+     * @param off index of the first byte to write
+     * @return index after the last byte written
+     * @throws IndexOutOfBoundsException if the output does not fit
+     */
+    public int format(double value, byte[] dest, int off) {
+        int len = render(value);
+        if (off < 0 || off > dest.length - len) {
+            throw new IndexOutOfBoundsException("Output of " + len + " bytes does not fit at " + off);
+        }
+        System.arraycopy(buffer, 0, dest, off, len);
+        return off + len;
+    }
+
+    /**
+     * Format a value into a new string.
+     *
+     * @param value the value to format
+     * @return the formatted value
+     */
+    public String format(double value) {
+        int len = render(value);
+        char[] chars = new char[len];
+        for (int i = 0; i < len; i++) {
+            chars[i] = (char) buffer[i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Render into {@link #buffer}.
+     *
+     * @return number of characters rendered
+     */
+    private int render(double value) {
+        if (Double.isNaN(value)) {
+            return put(0, "NaN");
+        }
+        int pos = 0;
+        if (Double.compare(value, 0.0) < 0) {           // also -0.0, as Formatter does
+            buffer[pos++] = '-';
+        }
+        if (Double.isInfinite(value)) {
+            return put(pos, "Infinity");
+        }
+        toDecimal(Math.abs(value));
+        return decimals == SHORTEST ? renderShortest(pos) : renderFixed(pos);
+    }
+
+    private int put(int pos, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            buffer[pos++] = (byte) s.charAt(i);
+        }
+        return pos;
+    }
+
+    /**
+     * Layout of Double.toString: plain for 10^-3 ≤ |v| &lt; 10^7, otherwise d.dddE±n.
+     */
+    private int renderShortest(int pos) {
+        int e = decimalExponent;
+        int n = digitCount;
+        if (0 < e && e <= 7) {
+            for (int i = 0; i < e; i++) {
+                buffer[pos++] = i < n ? digits[i] : (byte) '0';
+            }
+            buffer[pos++] = decimalSeparator;
+            if (n <= e) {
+                buffer[pos++] = '0';
+            }
+            for (int i = e; i < n; i++) {
+                buffer[pos++] = digits[i];
+            }
+            return pos;
+        }
+        if (-3 < e && e <= 0) {
+            buffer[pos++] = '0';
+            buffer[pos++] = decimalSeparator;
+            for (int i = e; i < 0; i++) {
+                buffer[pos++] = '0';
+            }
+            for (int i = 0; i < n; i++) {
+                buffer[pos++] = digits[i];
+            }
+            return pos;
+        }
+        buffer[pos++] = digits[0];
+        buffer[pos++] = decimalSeparator;
+        if (n == 1) {
+            buffer[pos++] = '0';
+        }
+        for (int i = 1; i < n; i++) {
+            buffer[pos++] = digits[i];
+        }
+        buffer[pos++] = 'E';
+        int exponent = e - 1;
+        if (exponent < 0) {
+            buffer[pos++] = '-';
+            exponent = -exponent;
+        }
+        if (exponent >= 100) {
+            buffer[pos++] = (byte) ('0' + exponent / 100);
+        }
+        if (exponent >= 10) {
+            buffer[pos++] = (byte) ('0' + exponent / 10 % 10);
+        }
+        buffer[pos++] = (byte) ('0' + exponent % 10);
+        return pos;
+    }
+
+    /**
+     * Fixed layout of Formatter's %.nf: round the shortest digits half-up at the last
+     * decimal, then print the integer part and exactly {@code decimals} decimals.
+     */
+    private int renderFixed(int pos) {
+        applyPrecision(decimalExponent + decimals);
+        int e = decimalExponent;
+        int n = digitCount;
+        if (e > 0) {
+            for (int i = 0; i < e; i++) {
+                buffer[pos++] = i < n ? digits[i] : (byte) '0';
+            }
+        } else {
+            buffer[pos++] = '0';
+        }
+        if (decimals == 0) {
+            return pos;
+        }
+        buffer[pos++] = decimalSeparator;
+        for (int i = 0; i < decimals; i++) {
+            int index = e + i;                          // digit index of this decimal place
+            buffer[pos++] = index >= 0 && index < n ? digits[index] : (byte) '0';
+        }
+        return pos;
+    }
+
+    /**
+     * Keep {@code prec} significant digits, rounding half-up on the next digit
+     * (FormattedFloatingDecimal.applyPrecision).
+     */
+    private void applyPrecision(int prec) {
+        int n = digitCount;
+        if (prec >= n || prec < 0) {
+            return;
+        }
+        if (prec == 0) {
+            boolean up = digits[0] >= '5';
+            digits[0] = up ? (byte) '1' : (byte) '0';
+            digitCount = 1;
+            if (up) {
+                decimalExponent++;
+            }
+            return;
+        }
+        if (digits[prec] >= '5') {
+            int i = prec - 1;
+            while (i >= 0 && digits[i] == '9') {
+                i--;
+            }
+            if (i < 0) {
+                digits[0] = '1';
+                digitCount = 1;
+                decimalExponent++;
+                return;
+            }
+            digits[i]++;
+            digitCount = i + 1;
+        } else {
+            digitCount = prec;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Schubfach: shortest decimal in the rounding interval of a double
+    // ------------------------------------------------------------------
+
+    /**
+     * Convert a finite non-negative value to {@link #digits} and {@link #decimalExponent}.
+     */
+    private void toDecimal(double v) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq != 0) {
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    setDigits(f, 0);                    // integer value
+                    return;
+                }
+            }
+            toDecimal(-mq, c, 0);
+        } else if (t != 0) {
+            if (t < C_TINY) {
+                toDecimal(Q_MIN, 10 * t, -1);
+            } else {
+                toDecimal(Q_MIN, t, 0);
+            }
+        } else {
+            digits[0] = '0';
+            digitCount = 1;
+            decimalExponent = 1;
+        }
+    }
+
+    private void toDecimal(int q, long c, int dk) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                setDigits(upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            setDigits(uin ? s : t, k + dk);
+            return;
+        }
+        long cmp = vb - ((s + t) << 1);
+        setDigits(cmp < 0 || (cmp == 0 && (s & 0x1) == 0) ? s : t, k + dk);
+    }
+
+    /**
+     * Round-to-odd product of the 126-bit g and cp, scaled down by 2^127.
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    /**
+     * Store f·10^e as significant digits without trailing zeros. f has at most 18
+     * digits, so it is split into two 9-digit halves handled in int arithmetic.
+     */
+    private void setDigits(long f, int e) {
+        int hi = (int) (f / 1_000_000_000L);
+        int lo = (int) (f - hi * 1_000_000_000L);
+        int n;
+        if (hi == 0) {
+            n = writeDigits(lo, 0, false);
+        } else {
+            n = writeDigits(hi, 0, false);
+            n = writeDigits(lo, n, true);
+        }
+        int total = n;
+        while (n > 1 && digits[n - 1] == '0') {
+            n--;
+        }
+        digitCount = n;
+        decimalExponent = total + e;
+    }
+
+    /**
+     * Write the decimal digits of v at {@code pos}, zero-padded to nine digits if
+     * {@code pad} is set.
+     *
+     * @return position after the last digit
+     */
+    private int writeDigits(int v, int pos, boolean pad) {
+        int len = pad ? 9 : stringSize(v);
+        for (int i = pos + len - 1; i >= pos; i--) {
+            int q = v / 10;
+            digits[i] = (byte) ('0' + (v - q * 10));
+            v = q;
+        }
+        return pos + len;
+    }
+
+    private static int stringSize(int v) {
+        int size = 1;
+        for (int limit = 10; size < 10 && v >= limit; limit *= 10) {
+            size++;
+        }
+        return size;
+    }
+
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * TanCalculatorMinimax - Division-free polynomial engine for sin/cos on [−π/4, π/4].
+ * 
+ * Uses the minimax (Remez) coefficients of the fdlibm sin/cos kernels:
+ * - sin(x) ≈ x + x³·(S1 + z·S2 + … + z⁵·S6), |sin(x)/x − poly| &lt; 2^-58
+ * - cos(x) ≈ 1 − z/2 + z²·(C1 + z·C2 + … + z⁵·C6), |cos(x) − poly| &lt; 2^-58
+ * with z = x². The polynomials are split Estrin-style into independent halves
+ * so that the multiply-adds can issue in parallel, and 1 − z/2 is summed with
+ * its rounding error carried so cos keeps full precision.
+ * 
+ * Error bound: tan(x) formed from these kernels is within 2 ulp on [−π/4, π/4]
+ * and, including the quarter-turn reduction in {@link TanCalculatorCore#tan},
+ * within {@link #MAX_ULP_ERROR} ulp over [−π, π], and within {@link #MAX_ULP_ERROR_HUGE}
+ * ulp beyond 2^19·π/2 where {@link TanCalculatorReduction} rounds the reduced angle
+ * once more; the unit tests check both against {@link StrictMath#tan}. The series
+ * engine has no such bound: it measures up to 7 ulp over [−π, π] and 9 ulp on huge
+ * arguments.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorMinimax {
+
+    /**
+     * Maximum error of tan(x) over [−π, π] with this engine, in units in the last place.
+     */
+    static final double MAX_ULP_ERROR = 3.0;
+
+    /**
+     * Maximum error of tan(x) beyond 2^19·π/2 with this engine, in units in the last place.
+     */
+    static final double MAX_ULP_ERROR_HUGE = 4.0;
+
+    static final double S1 = -1.66666666666666324348e-01;
+    static final double S2 = 8.33333333332248946124e-03;
+    static final double S3 = -1.98412698298579493134e-04;
+    static final double S4 = 2.75573137070700676789e-06;
+    static final double S5 = -2.50507602534068634195e-08;
+    static final double S6 = 1.58969099521155010221e-10;
+
+    static final double C1 = 4.16666666666666019037e-02;
+    static final double C2 = -1.38888888888741095749e-03;
+    static final double C3 = 2.48015872894767294178e-05;
+    static final double C4 = -2.75573143513906633035e-07;
+    static final double C5 = 2.08757232129817482790e-09;
+    static final double C6 = -1.13596475577881948265e-11;
+
+    private TanCalculatorMinimax() {
+        // Static polynomial kernels only
+    }
+
+    /**
+     * Evaluate sin(x) and cos(x) for |x| ≤ π/4 without any division.
+     * 
+     * @param x reduced angle in radians
+     * @param dest array receiving sin(x) at {@link TanCalculatorCore#SIN}
+     *             and cos(x) at {@link TanCalculatorCore#COS}
+     */
+    static void sincos(double x, double[] dest) {
+        double z = x * x;
+        double w = z * z;
+
+        double rs = S2 + z * (S3 + z * S4) + z * w * (S5 + z * S6);
+        dest[TanCalculatorCore.SIN] = x + z * x * (S1 + z * rs);
+
+        double rc = z * (C1 + z * (C2 + z * C3)) + w * w * (C4 + z * (C5 + z * C6));
+        double hz = 0.5 * z;
+        double one = 1.0 - hz;
+        dest[TanCalculatorCore.COS] = one + (((1.0 - one) - hz) + z * rc);
+    }
+}
@@ -0,0 +1,172 @@
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TanCalculatorParallel - Fork/join evaluation of large batches.
+ *
+ * Splits a block of angles in degrees in halves until a piece is no longer than
+ * the grain size, and evaluates the pieces on a {@link ForkJoinPool} with
+ * {@link TanCalculatorCore#calculateTangents(double[], double[], byte[], int, int)}.
+ * Every element is written to its own index of the output and status arrays, so
+ * the result is identical to a single-threaded call, order included. Each piece
+ * is evaluated by its own {@link TanCalculatorCore}, as cores are not thread-safe;
+ * with an error bus, every piece publishes its failures to it with their offset
+ * from the first element of the call.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorParallel {
+
+    /**
+     * Default number of angles evaluated by one task without further splitting.
+     */
+    public static final int DEFAULT_GRAIN = 1 << 13;
+
+    private final TanCalculatorCore.Engine engine;
+    private final ForkJoinPool pool;
+    private final int grain;
+    private final TanCalculatorErrorBus errorBus;
+
+    /**
+     * Create an evaluator on the common pool with {@link #DEFAULT_GRAIN}.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     */
+    public TanCalculatorParallel(TanCalculatorCore.Engine engine) {
+        this(engine, ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Create an evaluator.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param pool the pool running the tasks
+     * @param grain angles per task below which a block is not split, at least 1
+     */
+    public TanCalculatorParallel(TanCalculatorCore.Engine engine, ForkJoinPool pool, int grain) {
+        this(engine, pool, grain, null);
+    }
+
+    /**
+     * Create an evaluator reporting failed elements to an error bus.
+     *
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param pool the pool running the tasks
+     * @param grain angles per task below which a block is not split, at least 1
+     * @param errorBus the bus receiving error events, or {@code null} for none
+     */
+    public TanCalculatorParallel(TanCalculatorCore.Engine engine, ForkJoinPool pool, int grain,
+                                 TanCalculatorErrorBus errorBus) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Grain size must be positive: " + grain);
+        }
+        this.engine = Objects.requireNonNull(engine, "engine");
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.grain = grain;
+        this.errorBus = errorBus;
+    }
+
+    /**
+     * Parallel counterpart of
+     * {@link TanCalculatorCore#calculateTangents(double[], double[], byte[], int, int)}
+     * with the same contract.
+     *
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process in all three arrays
+     * @param len number of elements to process
+     * @return the number of elements evaluated with {@link TanCalculatorCore#STATUS_OK}
+     * @throws IndexOutOfBoundsException if the range does not fit any of the arrays
+     */
+    public int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len) {
+        Objects.checkFromIndexSize(off, len, degreesIn.length);
+        Objects.checkFromIndexSize(off, len, out.length);
+        Objects.checkFromIndexSize(off, len, status.length);
+        if (len <= grain) {
+            return newCore().calculateTangents(degreesIn, out, status, off, len);
+        }
+        return pool.invoke(new Block(degreesIn, out, status, off, len, off));
+    }
+
+    /**
+     * Get the engine of the cores evaluating the pieces.
+     *
+     * @return the engine
+     */
+    public TanCalculatorCore.Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Get the pool running the tasks.
+     *
+     * @return the pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Get the grain size.
+     *
+     * @return angles per task below which a block is not split
+     */
+    public int getGrain() {
+        return grain;
+    }
+
+    /**
+     * Get the bus failed elements are reported to.
+     *
+     * @return the bus, or {@code null} if none is set
+     */
+    public TanCalculatorErrorBus getErrorBus() {
+        return errorBus;
+    }
+
+    private TanCalculatorCore newCore() {
+        TanCalculatorCore core = new TanCalculatorCore(engine);
+        core.setErrorBus(errorBus);
+        return core;
+    }
+
+    /**
+     * Task evaluating one block; returns its number of successful elements.
+     */
+    private final class Block extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] degreesIn;
+        private final double[] out;
+        private final byte[] status;
+        private final int off;
+        private final int len;
+        private final int origin;
+
+        Block(double[] degreesIn, double[] out, byte[] status, int off, int len, int origin) {
+            this.degreesIn = degreesIn;
+            this.out = out;
+            this.status = status;
+            this.off = off;
+            this.len = len;
+            this.origin = origin;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (len <= grain) {
+                return newCore().calculateTangents(degreesIn, out, status, off, len, off - origin);
+            }
+            int half = len >>> 1;
+            Block right = new Block(degreesIn, out, status, off + half, len - half, origin);
+            right.fork();
+            int ok = new Block(degreesIn, out, status, off, half, origin).compute();
+            return ok + right.join();
+        }
+    }
+}
@@ -0,0 +1,466 @@
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * TanCalculatorParser - Allocation-free decimal parser for calculator input.
+ *
+ * Parses text in place from a {@link CharSequence}, a {@code char[]} range or a
+ * UTF-8 {@code byte[]}/{@link ByteBuffer} slice, accepting exactly the grammar of
+ * {@link Double#parseDouble} and producing bit-identical results. Decimal literals
+ * with up to 19 significant digits are converted with Clinger's exact fast path or
+ * the Eisel–Lemire algorithm; the rare inputs those cannot decide (hexadecimal
+ * literals, subnormals, halfway cases, over-long mantissas that stay ambiguous)
+ * are handed to {@code Double.parseDouble} after the syntax has been validated,
+ * so no exception is ever thrown.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorParser {
+
+    /**
+     * Most significant digits accumulated exactly in an unsigned 64-bit mantissa.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 19;
+
+    /**
+     * Explicit exponents are clamped here; anything larger over- or underflows anyway.
+     */
+    private static final int MAX_EXPONENT_DIGITS_VALUE = 100_000;
+
+    /**
+     * Range of decimal exponents covered by the power-of-ten table.
+     */
+    private static final int MIN_EXP10 = -342;
+    private static final int MAX_EXP10 = 308;
+
+    /**
+     * Largest power of ten that is exact as a double (Clinger's fast path).
+     */
+    private static final int MAX_EXACT_EXP10 = 22;
+
+    /**
+     * Largest mantissa that is exact as a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    /**
+     * 128-bit mantissas of 10^q for q in [MIN_EXP10, MAX_EXP10], normalised so the top
+     * bit is set and rounded down; high and low words in separate arrays.
+     */
+    private static final long[] POW10_HI = new long[MAX_EXP10 - MIN_EXP10 + 1];
+    private static final long[] POW10_LO = new long[MAX_EXP10 - MIN_EXP10 + 1];
+
+    static {
+        for (int q = MIN_EXP10; q <= MAX_EXP10; q++) {
+            BigInteger m;
+            if (q >= 0) {
+                m = BigInteger.TEN.pow(q);
+                int shift = m.bitLength() - 128;
+                m = shift > 0 ? m.shiftRight(shift) : m.shiftLeft(-shift);
+            } else {
+                BigInteger p = BigInteger.TEN.pow(-q);
+                m = BigInteger.ONE.shiftLeft(p.bitLength() + 127).divide(p);
+            }
+            POW10_HI[q - MIN_EXP10] = m.shiftRight(64).longValue();
+            POW10_LO[q - MIN_EXP10] = m.longValue();
+        }
+    }
+
+    private TanCalculatorParser() {
+        // Static parsing helpers only
+    }
+
+    /**
+     * Parse a whole character sequence.
+     *
+     * @param s the text to parse, may be null
+     * @param result holder receiving the parsed value and status
+     * @return {@link TanCalculatorCore#STATUS_OK}, {@link TanCalculatorCore#STATUS_INVALID_EMPTY}
+     *         or {@link TanCalculatorCore#STATUS_INVALID_NONNUMERIC}; NaN and infinities
+     *         are returned as values, exactly as {@code Double.parseDouble} does
+     */
+    public static byte parse(CharSequence s, TanCalculatorResult result) {
+        if (s == null) {
+            return result.set(Double.NaN, TanCalculatorCore.STATUS_INVALID_EMPTY);
+        }
+        return parseRange(s, 0, s.length(), result);
+    }
+
+    /**
+     * Parse {@code len} characters of a sequence starting at {@code off}.
+     *
+     * @param s the text to parse
+     * @param off index of the first character
+     * @param len number of characters
+     * @param result holder receiving the parsed value and status
+     * @return the status code, as for {@link #parse(CharSequence, TanCalculatorResult)}
+     */
+    public static byte parse(CharSequence s, int off, int len, TanCalculatorResult result) {
+        Objects.checkFromIndexSize(off, len, s.length());
+        return parseRange(s, off, off + len, result);
+    }
+
+    /**
+     * Parse {@code len} characters of an array starting at {@code off}, without copying.
+     *
+     * @param chars the characters to parse
+     * @param off index of the first character
+     * @param len number of characters
+     * @param result holder receiving the parsed value and status
+     * @return the status code, as for {@link #parse(CharSequence, TanCalculatorResult)}
+     */
+    public static byte parse(char[] chars, int off, int len, TanCalculatorResult result) {
+        Objects.checkFromIndexSize(off, len, chars.length);
+        return parseRange(chars, off, off + len, result);
+    }
+
+    /**
+     * Parse {@code len} UTF-8 bytes of an array starting at {@code off}, without decoding.
+     * Any non-ASCII byte makes the input non-numeric.
+     *
+     * @param utf8 the bytes to parse
+     * @param off index of the first byte
+     * @param len number of bytes
+     * @param result holder receiving the parsed value and status
+     * @return the status code, as for {@link #parse(CharSequence, TanCalculatorResult)}
+     */
+    public static byte parse(byte[] utf8, int off, int len, TanCalculatorResult result) {
+        Objects.checkFromIndexSize(off, len, utf8.length);
+        return parseRange(utf8, off, off + len, result);
+    }
+
+    /**
+     * Parse the remaining UTF-8 bytes of a buffer, without decoding. The buffer's
+     * position and limit are not changed.
+     *
+     * @param utf8 the buffer whose bytes from position to limit are parsed
+     * @param result holder receiving the parsed value and status
+     * @return the status code, as for {@link #parse(CharSequence, TanCalculatorResult)}
+     */
+    public static byte parse(ByteBuffer utf8, TanCalculatorResult result) {
+        return parseRange(new AsciiView(utf8), utf8.position(), utf8.limit(), result);
+    }
+
+    /**
+     * Validate and convert {@code s[start, end)} following the rules of
+     * {@code Double.parseDouble}: surrounding characters up to U+0020 are ignored,
+     * then an optional sign and NaN, Infinity, a hexadecimal literal with binary
+     * exponent or a decimal literal with optional exponent and float/double suffix.
+     * The text is a {@code byte[]}, a {@code char[]} or a {@link CharSequence}, read
+     * through {@link #at} so that arrays are indexed directly, without a wrapper.
+     */
+    private static byte parseRange(Object s, int start, int end, TanCalculatorResult result) {
+        while (start < end && at(s, start) <= ' ') {
+            start++;
+        }
+        while (end > start && at(s, end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return result.set(Double.NaN, TanCalculatorCore.STATUS_INVALID_EMPTY);
+        }
+
+        int i = start;
+        boolean negative = false;
+        char c = at(s, i);
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            i++;
+        }
+        if (i < end && (at(s, i) == 'N' || at(s, i) == 'I')) {
+            return parseSpecial(s, i, end, negative, result);
+        }
+        if (end - i > 2 && at(s, i) == '0' && (at(s, i + 1) | 0x20) == 'x') {
+            if (!isHexLiteral(s, i + 2, end)) {
+                return nonNumeric(result);
+            }
+            return result.set(fallback(s, start, end), TanCalculatorCore.STATUS_OK);
+        }
+
+        // Mantissa: keep the first 19 significant digits, track the decimal exponent
+        long mantissa = 0;
+        int significant = 0;
+        int exp10 = 0;
+        int digits = 0;
+        boolean truncated = false;
+        while (i < end && (c = at(s, i)) >= '0' && c <= '9') {
+            if (significant < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    significant++;
+                }
+            } else {
+                truncated |= c != '0';
+                exp10++;
+            }
+            digits++;
+            i++;
+        }
+        if (i < end && at(s, i) == '.') {
+            i++;
+            while (i < end && (c = at(s, i)) >= '0' && c <= '9') {
+                if (significant < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        significant++;
+                    }
+                    exp10--;
+                } else {
+                    truncated |= c != '0';
+                }
+                digits++;
+                i++;
+            }
+        }
+        if (digits == 0) {
+            return nonNumeric(result);
+        }
+
+        // Exponent
+        if (i < end && (at(s, i) | 0x20) == 'e') {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (at(s, i) == '+' || at(s, i) == '-')) {
+                negativeExponent = at(s, i) == '-';
+                i++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            while (i < end && (c = at(s, i)) >= '0' && c <= '9') {
+                if (exponent < MAX_EXPONENT_DIGITS_VALUE) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+                exponentDigits++;
+                i++;
+            }
+            if (exponentDigits == 0) {
+                return nonNumeric(result);
+            }
+            exp10 += negativeExponent ? -exponent : exponent;
+        }
+        if (i < end && "fFdD".indexOf(at(s, i)) >= 0) {
+            i++;
+        }
+        if (i != end) {
+            return nonNumeric(result);
+        }
+
+        // Conversion
+        if (mantissa == 0) {
+            return result.set(negative ? -0.0 : 0.0, TanCalculatorCore.STATUS_OK);
+        }
+        if (!truncated && mantissa >= 0 && mantissa <= MAX_EXACT_MANTISSA
+                && exp10 >= -MAX_EXACT_EXP10 && exp10 <= MAX_EXACT_EXP10) {
+            double v = mantissa;
+            v = exp10 < 0 ? v / EXACT_POWERS_OF_TEN[-exp10] : v * EXACT_POWERS_OF_TEN[exp10];
+            return result.set(negative ? -v : v, TanCalculatorCore.STATUS_OK);
+        }
+        long bits = eiselLemire(mantissa, exp10);
+        if (bits >= 0 && truncated && eiselLemire(mantissa + 1, exp10) != bits) {
+            bits = -1;                                  // dropped digits could change the rounding
+        }
+        if (bits < 0) {
+            return result.set(fallback(s, start, end), TanCalculatorCore.STATUS_OK);
+        }
+        double v = Double.longBitsToDouble(bits);
+        return result.set(negative ? -v : v, TanCalculatorCore.STATUS_OK);
+    }
+
+    private static byte parseSpecial(Object s, int i, int end, boolean negative, TanCalculatorResult result) {
+        if (matches(s, i, end, "NaN")) {
+            return result.set(Double.NaN, TanCalculatorCore.STATUS_OK);
+        }
+        if (matches(s, i, end, "Infinity")) {
+            return result.set(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY,
+                TanCalculatorCore.STATUS_OK);
+        }
+        return nonNumeric(result);
+    }
+
+    private static boolean matches(Object s, int i, int end, String word) {
+        if (end - i != word.length()) {
+            return false;
+        }
+        for (int j = 0; j < word.length(); j++) {
+            if (at(s, i + j) != word.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check the part after "0x": hex digits with an optional point (at least one
+     * digit), a mandatory binary exponent and an optional float/double suffix.
+     */
+    private static boolean isHexLiteral(Object s, int i, int end) {
+        int digits = 0;
+        while (i < end && isHexDigit(at(s, i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && at(s, i) == '.') {
+            i++;
+            while (i < end && isHexDigit(at(s, i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0 || i == end || (at(s, i) | 0x20) != 'p') {
+            return false;
+        }
+        i++;
+        if (i < end && (at(s, i) == '+' || at(s, i) == '-')) {
+            i++;
+        }
+        int exponentDigits = 0;
+        while (i < end && at(s, i) >= '0' && at(s, i) <= '9') {
+            i++;
+            exponentDigits++;
+        }
+        if (i < end && "fFdD".indexOf(at(s, i)) >= 0) {
+            i++;
+        }
+        return exponentDigits > 0 && i == end;
+    }
+
+    private static boolean isHexDigit(char c) {
+        int lower = c | 0x20;
+        return c >= '0' && c <= '9' || lower >= 'a' && lower <= 'f';
+    }
+
+    private static byte nonNumeric(TanCalculatorResult result) {
+        return result.set(Double.NaN, TanCalculatorCore.STATUS_INVALID_NONNUMERIC);
+    }
+
+    /**
+     * Convert validated text the slow way; only reached for input the fast paths
+     * cannot decide, and never throws because the syntax was checked first.
+     */
+    private static double fallback(Object s, int start, int end) {
+        String text;
+        if (s instanceof byte[]) {
+            text = new String((byte[]) s, start, end - start, StandardCharsets.ISO_8859_1);
+        } else if (s instanceof char[]) {
+            text = new String((char[]) s, start, end - start);
+        } else {
+            text = ((CharSequence) s).subSequence(start, end).toString();
+        }
+        return Double.parseDouble(text);
+    }
+
+    /**
+     * Character {@code i} of the text being parsed; bytes are read as Latin-1, so any
+     * non-ASCII byte is a character that no literal accepts.
+     */
+    private static char at(Object s, int i) {
+        if (s instanceof byte[]) {
+            return (char) (((byte[]) s)[i] & 0xFF);
+        }
+        if (s instanceof char[]) {
+            return ((char[]) s)[i];
+        }
+        return ((CharSequence) s).charAt(i);
+    }
+
+    /**
+     * Eisel–Lemire conversion of mantissa·10^exp10 to the bits of the nearest
+     * positive normal double.
+     *
+     * @param mantissa non-zero unsigned decimal mantissa
+     * @param exp10 decimal exponent
+     * @return the double's bits, or -1 if the result is not decided here
+     *         (halfway ambiguity, subnormal, overflow or exponent out of table range)
+     */
+    static long eiselLemire(long mantissa, int exp10) {
+        if (exp10 < MIN_EXP10 || exp10 > MAX_EXP10) {
+            return -1;
+        }
+        int clz = Long.numberOfLeadingZeros(mantissa);
+        long man = mantissa << clz;
+        long exp2 = ((217706L * exp10) >> 16) + 64 + 1023 - clz;
+
+        int index = exp10 - MIN_EXP10;
+        long xHi = TanCalculatorPlatform.unsignedMultiplyHigh(man, POW10_HI[index]);
+        long xLo = man * POW10_HI[index];
+
+        // Widen with the low table word when the truncated product is too close to call
+        if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + man, man) < 0) {
+            long yHi = TanCalculatorPlatform.unsignedMultiplyHigh(man, POW10_LO[index]);
+            long yLo = man * POW10_LO[index];
+            long mergedHi = xHi;
+            long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+                mergedHi++;
+            }
+            if ((mergedHi & 0x1FF) == 0x1FF && mergedLo == -1L && Long.compareUnsigned(yLo + man, man) < 0) {
+                return -1;
+            }
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // Shift to 54 bits, then round half to even to 53
+        long msb = xHi >>> 63;
+        long bits = xHi >>> (msb + 9);
+        exp2 -= 1 ^ msb;
+        if (xLo == 0 && (xHi & 0x1FF) == 0 && (bits & 3) == 1) {
+            return -1;
+        }
+        bits += bits & 1;
+        bits >>>= 1;
+        if (bits >>> 53 != 0) {
+            bits >>>= 1;
+            exp2++;
+        }
+        if (exp2 <= 0 || exp2 >= 0x7FF) {
+            return -1;
+        }
+        return (exp2 << 52) | (bits & 0x000F_FFFF_FFFF_FFFFL);
+    }
+
+    /**
+     * Read-only character view of a byte buffer, one byte per character. Indices
+     * are absolute buffer indices.
+     */
+    private static final class AsciiView implements CharSequence {
+        private final ByteBuffer bytes;
+
+        AsciiView(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder sb = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                sb.append(charAt(i));
+            }
+            return sb;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
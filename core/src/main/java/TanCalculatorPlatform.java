@@ -0,0 +1,94 @@
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TanCalculatorPlatform - JDK-specific operations used by the hot paths and servers.
+ *
+ * This is the Java 11 baseline. The jar is multi-release: when built on JDK 21 it also
+ * carries {@code META-INF/versions/21/TanCalculatorPlatform.class} (from
+ * {@code src/main/java21}), which a Java 21+ runtime loads in place of this class. Both
+ * variants have the same methods and results; the Java 21 one calls the newer APIs
+ * directly: virtual threads (Java 21), the unsigned 128-bit multiply-high used by the
+ * parser and the Payne–Hanek reduction (Java 18), and absolute bulk buffer transfers
+ * (Java 13) instead of reflection, a signed multiply with corrections, and temporary
+ * buffer views.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorPlatform {
+
+    private TanCalculatorPlatform() {
+        // Static helpers only
+    }
+
+    /**
+     * Create an executor starting a virtual thread per task. The factory is looked up
+     * reflectively so that running these classes on Java 21 still gets virtual threads.
+     *
+     * @return the executor, or null before Java 21
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * High 64 bits of the unsigned 128-bit product of a and b, from the signed
+     * product corrected for negative factors.
+     *
+     * @param a factor read as unsigned
+     * @param b factor read as unsigned
+     * @return the high word of a·b
+     */
+    static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Copy {@code len} doubles starting at absolute {@code index} of {@code src} into
+     * {@code dst[0, len)} without changing the buffer's position.
+     *
+     * @param src source buffer
+     * @param index first buffer index to read
+     * @param dst destination array
+     * @param len number of elements
+     */
+    static void get(DoubleBuffer src, int index, double[] dst, int len) {
+        src.duplicate().position(index).get(dst, 0, len);
+    }
+
+    /**
+     * Copy {@code src[0, len)} to {@code dst} starting at absolute {@code index} without
+     * changing the buffer's position.
+     *
+     * @param dst destination buffer
+     * @param index first buffer index to write
+     * @param src source array
+     * @param len number of elements
+     */
+    static void put(DoubleBuffer dst, int index, double[] src, int len) {
+        dst.duplicate().position(index).put(src, 0, len);
+    }
+
+    /**
+     * Copy {@code src[0, len)} to {@code dst} starting at absolute {@code index} without
+     * changing the buffer's position.
+     *
+     * @param dst destination buffer
+     * @param index first buffer index to write
+     * @param src source array
+     * @param len number of elements
+     */
+    static void put(ByteBuffer dst, int index, byte[] src, int len) {
+        dst.duplicate().position(index).put(src, 0, len);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * TanCalculatorReduction - Exact argument reduction for very large radian inputs.
+ * 
+ * Implements a Payne–Hanek style reduction: x·(2/π) is formed modulo 4 with
+ * a 192-bit window of the binary expansion of 2/π chosen by the exponent of x,
+ * so the quadrant and the remainder are correct at any magnitude and the cost
+ * does not grow with |x|. With the minimax engine, tan of a reduced argument is
+ * within {@link TanCalculatorMinimax#MAX_ULP_ERROR_HUGE} ulp of {@link StrictMath#tan}.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorReduction {
+
+    /**
+     * First 1280 bits of 2/π after the binary point, most significant word first.
+     */
+    private static final long[] TWO_OVER_PI_BITS = {
+        0xA2F9836E4E441529L, 0xFC2757D1F534DDC0L, 0xDB6295993C439041L,
+        0xFE5163ABDEBBC561L, 0xB7246E3A424DD2E0L, 0x06492EEA09D1921CL,
+        0xFE1DEB1CB129A73EL, 0xE88235F52EBB4484L, 0xE99C7026B45F7E41L,
+        0x3991D639835339F4L, 0x9C845F8BBDF9283BL, 0x1FF897FFDE05980FL,
+        0xEF2F118B5A0A6D1FL, 0x6D367ECF27CB09B7L, 0x4F463F669E5FEA2DL,
+        0x7527BAC7EBE5F17BL, 0x3D0739F78A5292EAL, 0x6BFB5FB11F8D5D08L,
+        0x56033046FC7B6BABL, 0xF0CFBC209AF4361DL,
+    };
+
+    /**
+     * π/2 as the nearest double.
+     */
+    private static final double PIO2 = 1.5707963267948966;
+
+    private TanCalculatorReduction() {
+        // Static reduction helpers only
+    }
+
+    /**
+     * Reduce a finite angle to r = x − k·π/2 with r in [−π/4, π/4].
+     * 
+     * @param x finite angle in radians
+     * @param dest array receiving the reduced angle r at index 0
+     * @return the quadrant k modulo 4, in 0..3
+     */
+    static int payneHanek(double x, double[] dest) {
+        long bits = Double.doubleToRawLongBits(x);
+        int biased = (int) (bits >>> 52) & 0x7FF;
+        long m = (bits & 0x000FFFFFFFFFFFFFL) | (biased == 0 ? 0L : 0x0010000000000000L);
+        int e = Math.max(biased, 1) - 1075;             // |x| = m·2^e
+
+        // G = bits e−2 .. e+189 of 2/π, so that m·G mod 2^192 = (|x|·2/π mod 4)·2^190;
+        // the low word m·g0 only feeds bits below 2^64 and is not needed
+        long g2 = window(e - 2);
+        long g1 = window(e + 62);
+        long g0 = window(e + 126);
+
+        long hi0 = TanCalculatorPlatform.unsignedMultiplyHigh(m, g0);
+        long lo1 = m * g1;
+        long hi1 = TanCalculatorPlatform.unsignedMultiplyHigh(m, g1);
+        long lo2 = m * g2;
+
+        long w1 = hi0 + lo1;
+        long carry = Long.compareUnsigned(w1, hi0) < 0 ? 1L : 0L;
+        long w2 = hi1 + lo2 + carry;
+
+        // Top two bits of w2 are the quadrant; round to the nearest one
+        long k = (w2 + (1L << 61)) >>> 62;
+        long fraction = w2 - (k << 62);                 // signed, in units of 2^-62 quadrants
+        double f = fraction * 0x1p-62 + (w1 >>> 11) * 0x1p-115;
+        double r = f * PIO2;
+
+        int quadrant = (int) k & 3;
+        if (bits < 0) {
+            r = -r;
+            quadrant = -quadrant & 3;
+        }
+        dest[0] = r;
+        return quadrant;
+    }
+
+    /**
+     * Extract 64 consecutive bits of 2/π, starting at bit {@code start} after the
+     * binary point (bit 0 is the first one); positions before it read as zero.
+     * 
+     * @param start index of the most significant bit to extract
+     * @return the bits as an unsigned 64-bit word
+     */
+    private static long window(int start) {
+        if (start <= -64) {
+            return 0L;
+        }
+        if (start < 0) {
+            return TWO_OVER_PI_BITS[0] >>> -start;
+        }
+        int word = start >>> 6;
+        int shift = start & 63;
+        long hi = TWO_OVER_PI_BITS[word];
+        if (shift == 0) {
+            return hi;
+        }
+        long lo = word + 1 < TWO_OVER_PI_BITS.length ? TWO_OVER_PI_BITS[word + 1] : 0L;
+        return (hi << shift) | (lo >>> (64 - shift));
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * TanCalculatorResult - Reusable holder for exception-free evaluations.
+ * 
+ * Filled by the {@code try*} methods of {@link TanCalculatorCore} with a
+ * primitive value and one of the {@code TanCalculatorCore.STATUS_*} codes.
+ * One instance can be reused for any number of calls, so the status API
+ * allocates nothing per evaluation.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorResult {
+
+    /**
+     * Result value, NaN unless the status is {@link TanCalculatorCore#STATUS_OK}.
+     */
+    private double value = Double.NaN;
+
+    /**
+     * Status code of the last evaluation.
+     */
+    private byte status = TanCalculatorCore.STATUS_OK;
+
+    /**
+     * Default constructor for TanCalculatorResult.
+     */
+    public TanCalculatorResult() {
+        // Filled by TanCalculatorCore
+    }
+
+    /**
+     * Record the outcome of an evaluation.
+     * 
+     * @param value the result value, NaN on failure
+     * @param status the status code
+     * @return the status code, for chaining into a return statement
+     */
+    byte set(double value, byte status) {
+        this.value = value;
+        this.status = status;
+        return status;
+    }
+
+    /**
+     * Get the value of the last evaluation.
+     * 
+     * @return the result value, NaN unless {@link #isOk()}
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Get the status code of the last evaluation.
+     * 
+     * @return one of the {@code TanCalculatorCore.STATUS_*} codes
+     */
+    public byte getStatus() {
+        return status;
+    }
+
+    /**
+     * Report whether the last evaluation succeeded.
+     * 
+     * @return true if the status is {@link TanCalculatorCore#STATUS_OK}
+     */
+    public boolean isOk() {
+        return status == TanCalculatorCore.STATUS_OK;
+    }
+}
@@ -0,0 +1,176 @@
+import java.util.Arrays;
+
+/**
+ * TanCalculatorResultCache - Bounded memoization table for tangent results.
+ * 
+ * Maps a primitive {@code long} key (the bits of a canonical reduced angle)
+ * to a {@code double} result without boxing. The table is open-addressed in
+ * sets of {@value #WAYS} slots: a key hashes to one set and is only looked
+ * up there, and a full set evicts with the CLOCK (second chance) policy,
+ * which approximates LRU with a single reference bit per slot.
+ * 
+ * Instances are not thread-safe; a cache belongs to one
+ * {@link TanCalculatorCore} used from one thread at a time.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorResultCache {
+
+    /**
+     * Value returned by {@link #get(long)} when the key is not cached. Tangents are
+     * never infinite because |cos(x)| ≥ EPS whenever a value is produced.
+     */
+    static final double MISS = Double.POSITIVE_INFINITY;
+
+    /**
+     * Slots per set.
+     */
+    private static final int WAYS = 4;
+
+    /**
+     * Marker for an unused slot; a NaN bit pattern no canonical angle key can take.
+     */
+    private static final long EMPTY = -1L;
+
+    private final long[] keys;
+    private final double[] values;
+    private final boolean[] referenced;
+    private final byte[] hands;
+    private final int setShift;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor for TanCalculatorResultCache.
+     * 
+     * @param capacity maximum number of entries, rounded up to a power of two of at least {@value #WAYS}
+     * @throws IllegalArgumentException if capacity is not positive or above 2^30
+     */
+    TanCalculatorResultCache(int capacity) {
+        int slots = slotsFor(capacity);
+        int sets = slots / WAYS;
+        this.keys = new long[slots];
+        this.values = new double[slots];
+        this.referenced = new boolean[slots];
+        this.hands = new byte[sets];
+        this.setShift = 64 - Integer.numberOfTrailingZeros(sets);
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Get the number of entries a cache of the requested capacity holds.
+     * 
+     * @param capacity maximum number of entries
+     * @return capacity rounded up to a power of two of at least {@value #WAYS}
+     * @throws IllegalArgumentException if capacity is not positive or above 2^30
+     */
+    static int slotsFor(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Cache capacity out of range: " + capacity);
+        }
+        return Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * Look up a cached result and count the hit or miss.
+     * 
+     * @param key canonical angle key
+     * @return the cached value, or {@link #MISS}
+     */
+    double get(long key) {
+        int base = setOf(key);
+        for (int i = base; i < base + WAYS; i++) {
+            if (keys[i] == key) {
+                referenced[i] = true;
+                hits++;
+                return values[i];
+            }
+        }
+        misses++;
+        return MISS;
+    }
+
+    /**
+     * Store a result, evicting a not recently used entry of the set when it is full.
+     * 
+     * @param key canonical angle key
+     * @param value result to cache
+     */
+    void put(long key, double value) {
+        int base = setOf(key);
+        for (int i = base; i < base + WAYS; i++) {
+            if (keys[i] == EMPTY || keys[i] == key) {
+                store(i, key, value);
+                return;
+            }
+        }
+        // CLOCK: clear reference bits until an unreferenced slot comes round
+        int set = base / WAYS;
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        hands[set] = (byte) ((hand + 1) & (WAYS - 1));
+        store(base + hand, key, value);
+    }
+
+    private void store(int slot, long key, double value) {
+        keys[slot] = key;
+        values[slot] = value;
+        referenced[slot] = true;
+    }
+
+    /**
+     * First slot of the set a key hashes to (Fibonacci hashing).
+     * 
+     * @param key canonical angle key
+     * @return index of the set's first slot
+     */
+    private int setOf(long key) {
+        if (setShift == 64) {
+            return 0;
+        }
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> setShift) * WAYS;
+    }
+
+    /**
+     * Remove every entry and reset the counters.
+     */
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(referenced, false);
+        Arrays.fill(hands, (byte) 0);
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Get the maximum number of entries.
+     * 
+     * @return the capacity in entries
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Get the number of lookups answered from the cache.
+     * 
+     * @return the hit count
+     */
+    long hits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups that were not cached.
+     * 
+     * @return the miss count
+     */
+    long misses() {
+        return misses;
+    }
+}
@@ -0,0 +1,80 @@
+import java.util.Arrays;
+
+/**
+ * TanCalculatorStatusColumn - Error sink collecting a batch's status codes.
+ * 
+ * Holds one {@code TanCalculatorCore.STATUS_*} code per batch element, all
+ * {@link TanCalculatorCore#STATUS_OK} until an event with that index arrives;
+ * events outside the column (or without an index) are ignored. Read the column
+ * after {@link TanCalculatorErrorBus#close()} or {@link TanCalculatorErrorBus#drain()}
+ * has returned on the reading thread.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorStatusColumn implements TanCalculatorErrorSink {
+
+    private final byte[] status;
+    private int failures;
+
+    /**
+     * Create a column of OK statuses.
+     * 
+     * @param size number of elements in the batch
+     * @throws IllegalArgumentException if size is negative
+     */
+    public TanCalculatorStatusColumn(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be non-negative: " + size);
+        }
+        this.status = new byte[size];
+    }
+
+    @Override
+    public void onError(TanCalculatorErrorEvent event) {
+        long index = event.getIndex();
+        if (index >= 0 && index < status.length) {
+            if (status[(int) index] == TanCalculatorCore.STATUS_OK) {
+                failures++;
+            }
+            status[(int) index] = event.getKind().getStatus();
+        }
+    }
+
+    /**
+     * Get the status of one element.
+     * 
+     * @param index element index
+     * @return its {@code TanCalculatorCore.STATUS_*} code
+     */
+    public byte getStatus(int index) {
+        return status[index];
+    }
+
+    /**
+     * Get the number of elements that failed.
+     * 
+     * @return elements with a status other than OK
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Copy the column.
+     * 
+     * @return one status code per element
+     */
+    public byte[] toArray() {
+        return Arrays.copyOf(status, status.length);
+    }
+
+    /**
+     * Reset every element to OK for the next batch.
+     */
+    public void reset() {
+        Arrays.fill(status, TanCalculatorCore.STATUS_OK);
+        failures = 0;
+    }
+}
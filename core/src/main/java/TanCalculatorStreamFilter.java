@@ -0,0 +1,208 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * TanCalculatorStreamFilter - Streaming newline-delimited angle filter.
+ *
+ * Reads angles in degrees, one per line, through a large byte buffer, parses them
+ * in place with {@link TanCalculatorParser}, evaluates them in blocks with
+ * {@link TanCalculatorCore#calculateTangents} and writes one result line per input
+ * through a reusable output buffer with {@link TanCalculatorFormatter}, using the
+ * GUI's words for errors:
+ * {@code UNDEFINED} (FR‑5) and {@code INVALID INPUT} (FR‑6). All buffers are
+ * allocated once, so memory use does not depend on the input size. Lines longer
+ * than the input buffer are reported as invalid. When the core has an
+ * {@link TanCalculatorErrorBus}, each failed line is published to it with its line
+ * number (from 0) and, if it did not parse, its text.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorStreamFilter {
+
+    /**
+     * Default size of the input and output buffers in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Angles evaluated per bulk call.
+     */
+    private static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Longest output line: sign, 309 integer digits, point and six decimals, plus newline.
+     */
+    private static final int MAX_OUTPUT_LINE = 320;
+
+    private static final byte[] UNDEFINED = ascii("UNDEFINED\n");
+    private static final byte[] INVALID_INPUT = ascii("INVALID INPUT\n");
+
+    private final TanCalculatorCore core;
+    private final byte[] in;
+    private final byte[] out;
+    private int outLength;
+
+    private final double[] degrees = new double[BLOCK_SIZE];
+    private final double[] tangents = new double[BLOCK_SIZE];
+    private final byte[] status = new byte[BLOCK_SIZE];
+    private final byte[] parseStatus = new byte[BLOCK_SIZE];
+    private int blockLength;
+    private final TanCalculatorResult parsed = new TanCalculatorResult();
+    private final TanCalculatorFormatter formatter = new TanCalculatorFormatter(6);
+
+    private long lines;
+    private long failures;
+    private TanCalculatorErrorBus errorBus;
+
+    /**
+     * Create a filter with {@link #DEFAULT_BUFFER_SIZE} buffers.
+     *
+     * @param core the calculator evaluating the angles
+     */
+    public TanCalculatorStreamFilter(TanCalculatorCore core) {
+        this(core, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a filter with buffers of the given size.
+     *
+     * @param core the calculator evaluating the angles
+     * @param bufferSize size of the input and output buffers in bytes, at least 1024
+     */
+    public TanCalculatorStreamFilter(TanCalculatorCore core, int bufferSize) {
+        if (bufferSize < MAX_OUTPUT_LINE * 2 || bufferSize < 1024) {
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        }
+        this.core = core;
+        this.in = new byte[bufferSize];
+        this.out = new byte[bufferSize];
+    }
+
+    /**
+     * Filter all lines of {@code source} to {@code sink}. A final line without a
+     * newline is processed too; a trailing carriage return is ignored. The sink is
+     * flushed but not closed.
+     *
+     * @param source newline-delimited angles in degrees, UTF-8
+     * @param sink receives one result line per input line
+     * @return number of lines that were undefined or invalid
+     * @throws IOException if reading or writing fails
+     */
+    public long filter(InputStream source, OutputStream sink) throws IOException {
+        lines = 0;
+        failures = 0;
+        errorBus = core.getErrorBus();
+        outLength = 0;
+        blockLength = 0;
+        int start = 0;
+        int end = 0;
+        boolean overlong = false;
+        for (int n = source.read(in, end, in.length - end); n >= 0; n = source.read(in, end, in.length - end)) {
+            int scan = end;
+            end += n;
+            for (int i = scan; i < end; i++) {
+                if (in[i] == '\n') {
+                    addLine(start, i, overlong, sink);
+                    overlong = false;
+                    start = i + 1;
+                }
+            }
+            if (start == 0 && end == in.length) {
+                overlong = true;                        // no newline in a full buffer: drop the content
+                end = 0;
+            } else if (start > 0) {
+                System.arraycopy(in, start, in, 0, end - start);
+                end -= start;
+                start = 0;
+            }
+        }
+        if (end > start || overlong) {
+            addLine(start, end, overlong, sink);
+        }
+        flushBlock(sink);
+        sink.write(out, 0, outLength);
+        outLength = 0;
+        sink.flush();
+        return failures;
+    }
+
+    /**
+     * Get the number of lines processed by the last {@link #filter} call.
+     *
+     * @return line count
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Get the number of undefined or invalid lines of the last {@link #filter} call.
+     *
+     * @return failure count
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    private void addLine(int from, int to, boolean overlong, OutputStream sink) throws IOException {
+        if (to > from && in[to - 1] == '\r') {
+            to--;
+        }
+        byte lineStatus = overlong
+            ? TanCalculatorCore.STATUS_INVALID_NONNUMERIC
+            : TanCalculatorParser.parse(in, from, to - from, parsed);
+        degrees[blockLength] = lineStatus == TanCalculatorCore.STATUS_OK ? parsed.getValue() : 0.0;
+        parseStatus[blockLength] = lineStatus;
+        if (lineStatus != TanCalculatorCore.STATUS_OK && errorBus != null) {
+            errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(lineStatus), in, from, to - from, lines);
+        }
+        blockLength++;
+        lines++;
+        if (blockLength == BLOCK_SIZE) {
+            flushBlock(sink);
+        }
+    }
+
+    private void flushBlock(OutputStream sink) throws IOException {
+        if (blockLength == 0) {
+            return;
+        }
+        // Bulk errors are published below with line numbers, not by the core
+        core.evaluateBlock(degrees, tangents, status, 0, blockLength);
+        long firstLine = lines - blockLength;
+        for (int i = 0; i < blockLength; i++) {
+            if (outLength > out.length - MAX_OUTPUT_LINE) {
+                sink.write(out, 0, outLength);
+                outLength = 0;
+            }
+            if (parseStatus[i] != TanCalculatorCore.STATUS_OK) {
+                status[i] = parseStatus[i];
+            } else if (status[i] != TanCalculatorCore.STATUS_OK && errorBus != null) {
+                errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(status[i]), degrees[i], firstLine + i);
+            }
+            if (status[i] == TanCalculatorCore.STATUS_OK) {
+                outLength = formatter.format(tangents[i], out, outLength);
+                out[outLength++] = '\n';
+            } else {
+                byte[] word = status[i] == TanCalculatorCore.STATUS_UNDEFINED ? UNDEFINED : INVALID_INPUT;
+                System.arraycopy(word, 0, out, outLength, word.length);
+                outLength += word.length;
+                failures++;
+            }
+        }
+        blockLength = 0;
+    }
+
+    private static byte[] ascii(String s) {
+        byte[] bytes = new byte[s.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) s.charAt(i);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,244 @@
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * TanCalculatorSweep - Tangents over evenly spaced angles.
+ *
+ * Generates tan(start + i·step) for i = 0 … count − 1, in degrees. Instead of
+ * reducing and evaluating a series for every sample, sin and cos are advanced by
+ * the angle-addition rotation
+ * <pre>
+ *   sin(a + h) = sin(a)·cos(h) + cos(a)·sin(h)
+ *   cos(a + h) = cos(a)·cos(h) − sin(a)·sin(h)
+ * </pre>
+ * which costs four multiply-adds and a division per sample. Rounding drift is
+ * bounded by re-anchoring sin and cos with the core's engine every
+ * {@code anchorInterval} samples, and at every sample with |cos| &lt; 1/16, where
+ * the tangent would magnify the drift. Between anchors the samples advance by
+ * exactly {@code step}, so they can differ from tan(start + i·step) evaluated
+ * one by one by the rounding of that sum. The FR‑5 test |cos| &lt; EPS applies as
+ * in {@link TanCalculatorCore}. Sweeps whose start and step are multiples of a
+ * quarter degree are answered exactly from {@link TanCalculatorDegreeTable}.
+ *
+ * Besides its status, each sample reports whether an asymptote (90° + k·180°)
+ * was reached since the previous sample, so plots can break the curve there
+ * even when no sample falls close enough to be {@code UNDEFINED}.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorSweep {
+
+    /**
+     * Default number of samples between two re-anchorings.
+     */
+    public static final int DEFAULT_ANCHOR_INTERVAL = 64;
+
+    /**
+     * Samples with a smaller |cos| are always anchored.
+     */
+    private static final double ANCHOR_COSINE = 0x1p-4;
+
+    private final TanCalculatorCore core;
+    private final double start;
+    private final double step;
+    private final long count;
+    private final int anchorInterval;
+    private final double sinStep;
+    private final double cosStep;
+    private final boolean quarterDegrees;
+    private final double[] sc = new double[2];
+
+    private long index;
+    private int sinceAnchor;
+    private double sin;
+    private double cos;
+    private double nextPole;
+    private boolean crossed;
+
+    /**
+     * Create a sweep anchored every {@link #DEFAULT_ANCHOR_INTERVAL} samples.
+     *
+     * @param core the calculator whose engine anchors the sweep
+     * @param startDegrees first angle in degrees
+     * @param stepDegrees distance between samples in degrees, may be negative
+     * @param count number of samples
+     */
+    public TanCalculatorSweep(TanCalculatorCore core, double startDegrees, double stepDegrees, long count) {
+        this(core, startDegrees, stepDegrees, count, DEFAULT_ANCHOR_INTERVAL);
+    }
+
+    /**
+     * Create a sweep.
+     *
+     * @param core the calculator whose engine anchors the sweep
+     * @param startDegrees first angle in degrees
+     * @param stepDegrees distance between samples in degrees, may be negative
+     * @param count number of samples
+     * @param anchorInterval maximum samples between two re-anchorings, at least 1
+     * @throws IllegalArgumentException if an angle of the sweep is not finite,
+     *         the count is negative or the interval is not positive
+     */
+    public TanCalculatorSweep(TanCalculatorCore core, double startDegrees, double stepDegrees, long count,
+                              int anchorInterval) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        if (anchorInterval < 1) {
+            throw new IllegalArgumentException("Anchor interval must be positive: " + anchorInterval);
+        }
+        double last = startDegrees + (double) Math.max(count - 1, 0) * stepDegrees;
+        if (!Double.isFinite(startDegrees) || !Double.isFinite(stepDegrees) || !Double.isFinite(last)) {
+            throw new IllegalArgumentException("Sweep angles must be finite");
+        }
+        this.core = Objects.requireNonNull(core, "core");
+        this.start = startDegrees;
+        this.step = stepDegrees;
+        this.count = count;
+        this.anchorInterval = anchorInterval;
+        core.sincosDegrees(stepDegrees, sc);
+        this.sinStep = sc[TanCalculatorCore.SIN];
+        this.cosStep = sc[TanCalculatorCore.COS];
+        this.quarterDegrees = isQuarterDegree(startDegrees) && isQuarterDegree(stepDegrees)
+            && Math.abs(startDegrees) < 0x1p50 && Math.abs(last) < 0x1p50;
+    }
+
+    /**
+     * Report whether samples remain.
+     *
+     * @return true if {@link #next} can be called
+     */
+    public boolean hasNext() {
+        return index < count;
+    }
+
+    /**
+     * Get the index of the next sample.
+     *
+     * @return number of samples generated so far
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Generate the next sample.
+     *
+     * @param result holder receiving the tangent value and status
+     * @return {@link TanCalculatorCore#STATUS_OK} or {@link TanCalculatorCore#STATUS_UNDEFINED}
+     * @throws NoSuchElementException if the sweep is complete
+     */
+    public byte next(TanCalculatorResult result) {
+        if (index >= count) {
+            throw new NoSuchElementException("Sweep complete");
+        }
+        double t = advance();
+        return result.set(t, Double.isNaN(t) ? TanCalculatorCore.STATUS_UNDEFINED : TanCalculatorCore.STATUS_OK);
+    }
+
+    /**
+     * Report whether an asymptote lies between the previous sample, exclusive,
+     * and the last generated sample, inclusive. Always false for the first sample.
+     *
+     * @return true if the curve is discontinuous before the last sample
+     */
+    public boolean crossedAsymptote() {
+        return crossed;
+    }
+
+    /**
+     * Generate the next {@code len} samples into {@code [off, off + len)}, with the
+     * contract of {@link TanCalculatorCore#calculateTangents(double[], double[], byte[], int, int)}.
+     *
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param crossed destination for the {@link #crossedAsymptote()} flags, or null
+     * @param off first index to write in the arrays
+     * @param len number of samples to generate
+     * @return the number of samples with {@link TanCalculatorCore#STATUS_OK}
+     * @throws IndexOutOfBoundsException if the range does not fit any of the arrays
+     * @throws NoSuchElementException if fewer than {@code len} samples remain
+     */
+    public int next(double[] out, byte[] status, boolean[] crossed, int off, int len) {
+        Objects.checkFromIndexSize(off, len, out.length);
+        Objects.checkFromIndexSize(off, len, status.length);
+        if (crossed != null) {
+            Objects.checkFromIndexSize(off, len, crossed.length);
+        }
+        if (len > count - index) {
+            throw new NoSuchElementException("Only " + (count - index) + " samples remain");
+        }
+        int ok = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            double t = advance();
+            out[i] = t;
+            if (crossed != null) {
+                crossed[i] = this.crossed;
+            }
+            if (Double.isNaN(t)) {
+                status[i] = TanCalculatorCore.STATUS_UNDEFINED;
+            } else {
+                status[i] = TanCalculatorCore.STATUS_OK;
+                ok++;
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Move sin and cos to the next sample and return its tangent, or NaN if undefined.
+     */
+    private double advance() {
+        double angle = start + (double) index * step;
+        if (quarterDegrees) {
+            advancePole(angle);
+            return core.evaluateTanDegrees(angle, sc);  // exact table lookup, cheaper than rotating
+        }
+        if (index == 0 || sinceAnchor == anchorInterval) {
+            anchor(angle);
+        } else {
+            double s = sin * cosStep + cos * sinStep;
+            double c = cos * cosStep - sin * sinStep;
+            sin = s;
+            cos = c;
+            sinceAnchor++;
+            if (Math.abs(c) < ANCHOR_COSINE) {
+                anchor(angle);
+            }
+        }
+
+        advancePole(angle);
+        if (Math.abs(cos) < TanCalculatorCore.EPS) {
+            return Double.NaN;                          // FR‑5
+        }
+        return sin / cos;
+    }
+
+    /**
+     * Update the asymptote flag for the sample at {@code angle} and count the sample.
+     * Only a comparison is needed until the next asymptote in the sweep direction
+     * is reached; it is then located again from the current angle.
+     */
+    private void advancePole(double angle) {
+        crossed = index > 0 && (step >= 0 ? angle >= nextPole : angle <= nextPole);
+        if (index == 0 || crossed) {
+            double p = (angle - 90.0) * (1.0 / 180.0);
+            nextPole = 90.0 + 180.0 * (step >= 0 ? Math.floor(p) + 1.0 : Math.ceil(p) - 1.0);
+        }
+        index++;
+    }
+
+    private static boolean isQuarterDegree(double deg) {
+        return deg * 4.0 == Math.rint(deg * 4.0);
+    }
+
+    private void anchor(double angle) {
+        core.sincosDegrees(angle, sc);
+        sin = sc[TanCalculatorCore.SIN];
+        cos = sc[TanCalculatorCore.COS];
+        sinceAnchor = 0;
+    }
+}
@@ -0,0 +1,44 @@
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TanCalculatorPlatform - Java 21 variant, packaged as
+ * {@code META-INF/versions/21/TanCalculatorPlatform.class}.
+ *
+ * Same contract as the baseline in {@code src/main/java}: virtual threads are created
+ * directly, the multiply-high is the single unsigned instruction behind
+ * {@link Math#unsignedMultiplyHigh}, and buffer transfers use the absolute bulk
+ * accessors, so no temporary buffer view is allocated per call.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TanCalculatorPlatform {
+
+    private TanCalculatorPlatform() {
+        // Static helpers only
+    }
+
+    static ExecutorService newVirtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    static long unsignedMultiplyHigh(long a, long b) {
+        return Math.unsignedMultiplyHigh(a, b);
+    }
+
+    static void get(DoubleBuffer src, int index, double[] dst, int len) {
+        src.get(index, dst, 0, len);
+    }
+
+    static void put(DoubleBuffer dst, int index, double[] src, int len) {
+        dst.put(index, src, 0, len);
+    }
+
+    static void put(ByteBuffer dst, int index, byte[] src, int len) {
+        dst.put(index, src, 0, len);
+    }
+}
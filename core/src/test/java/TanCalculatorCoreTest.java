@@ -0,0 +1,959 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the core module.
+ * 
+ * Tests cover all mathematical functions, input validation, the bulk
+ * and streaming paths, and the shared exceptions. None of them needs
+ * a display.
+ * 
+ * @version 1.0.0
+ */
+@DisplayName("TanCalculator Core Tests")
+class TanCalculatorCoreTest {
+
+    private TanCalculatorCore coreFeatures;
+
+    @BeforeEach
+    void setUp() {
+        coreFeatures = new TanCalculatorCore();
+    }
+
+    @Nested
+    @DisplayName("Core Features Tests")
+    class CoreFeaturesTests {
+
+        @Test
+        @DisplayName("Test degree to radian conversion")
+        void testToRadians() {
+            double result = coreFeatures.toRadians(180.0);
+            assertEquals(Math.PI, result, 1e-10, "180 degrees should equal π radians");
+
+            result = coreFeatures.toRadians(90.0);
+            assertEquals(Math.PI / 2, result, 1e-10, "90 degrees should equal π/2 radians");
+
+            result = coreFeatures.toRadians(0.0);
+            assertEquals(0.0, result, 1e-10, "0 degrees should equal 0 radians");
+        }
+
+        @Test
+        @DisplayName("Test radian normalization")
+        void testNormalizeRadians() {
+            // Test values within [-π, π]
+            double result = coreFeatures.normalizeRadians(Math.PI / 2);
+            assertEquals(Math.PI / 2, result, 1e-10, "π/2 should remain π/2");
+
+            // Test values outside range
+            result = coreFeatures.normalizeRadians(3 * Math.PI);
+            assertEquals(Math.PI, result, 1e-10, "3π should normalize to π");
+
+            result = coreFeatures.normalizeRadians(-3 * Math.PI);
+            assertEquals(-Math.PI, result, 1e-10, "-3π should normalize to -π");
+        }
+
+        @Test
+        @DisplayName("Test sine calculation")
+        void testSin() {
+            // Test key angles
+            double result = coreFeatures.sin(0.0);
+            assertEquals(0.0, result, 1e-10, "sin(0) should be 0");
+
+            result = coreFeatures.sin(Math.PI / 2);
+            assertEquals(1.0, result, 1e-6, "sin(π/2) should be 1");
+
+            result = coreFeatures.sin(Math.PI);
+            assertEquals(0.0, result, 1e-6, "sin(π) should be 0");
+        }
+
+        @Test
+        @DisplayName("Test cosine calculation")
+        void testCos() {
+            // Test key angles
+            double result = coreFeatures.cos(0.0);
+            assertEquals(1.0, result, 1e-10, "cos(0) should be 1");
+
+            result = coreFeatures.cos(Math.PI / 2);
+            assertEquals(0.0, result, 1e-6, "cos(π/2) should be 0");
+
+            result = coreFeatures.cos(Math.PI);
+            assertEquals(-1.0, result, 1e-6, "cos(π) should be -1");
+        }
+
+        @Test
+        @DisplayName("Test tangent calculation")
+        void testTan() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            // Test valid tangent values
+            double result = coreFeatures.tan(0.0);
+            assertEquals(0.0, result, 1e-10, "tan(0) should be 0");
+
+            result = coreFeatures.tan(Math.PI / 4);
+            assertEquals(1.0, result, 1e-6, "tan(π/4) should be 1");
+
+            // Test undefined tangent (should throw exception)
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class, 
+                () -> {
+                    try {
+                        coreFeatures.tan(Math.PI / 2);
+                    } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
+                        throw e;
+                    }
+                }, 
+                "tan(π/2) should be undefined");
+        }
+
+        @Test
+        @DisplayName("Test fused sine/cosine calculation")
+        void testSinCos() {
+            double[] sc = new double[2];
+            for (double x : new double[] {0.0, 0.1, -0.7, Math.PI / 3, Math.PI / 2, -Math.PI}) {
+                coreFeatures.sincos(x, sc);
+                assertEquals(coreFeatures.sin(x), sc[TanCalculatorCore.SIN], 0.0,
+                    "Fused sin should match sin() exactly at " + x);
+                assertEquals(coreFeatures.cos(x), sc[TanCalculatorCore.COS], 0.0,
+                    "Fused cos should match cos() exactly at " + x);
+            }
+        }
+
+        @Test
+        @DisplayName("Test quadrant range reduction")
+        void testReduceQuadrant() {
+            assertEquals(0, coreFeatures.quadrant(0.5), "0.5 rad lies in quadrant 0");
+            assertEquals(1, coreFeatures.quadrant(Math.PI / 2), "π/2 lies in quadrant 1");
+            assertEquals(-2, coreFeatures.quadrant(-Math.PI), "-π lies in quadrant -2");
+
+            for (double x = -Math.PI; x <= Math.PI; x += 0.01) {
+                double r = coreFeatures.reduceQuadrant(x, coreFeatures.quadrant(x));
+                assertTrue(Math.abs(r) <= Math.PI / 4 + 1e-15, "Reduced angle should lie in [-π/4, π/4] for " + x);
+            }
+        }
+
+        @Test
+        @DisplayName("Test tangent accuracy near the asymptote")
+        void testTanNearAsymptote() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            for (double d : new double[] {1e-3, 1e-6, 1e-9}) {
+                double x = Math.PI / 2 - d;
+                double expected = Math.tan(x);
+                assertEquals(expected, coreFeatures.tan(x), 1e-13 * Math.abs(expected),
+                    "tan(π/2 - " + d + ") should keep full relative precision");
+                assertEquals(-expected, coreFeatures.tan(-x), 1e-13 * Math.abs(expected),
+                    "tan(-π/2 + " + d + ") should keep full relative precision");
+            }
+        }
+
+        @Test
+        @DisplayName("Test minimax engine error bound")
+        void testMinimaxEngine() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            TanCalculatorCore minimax = new TanCalculatorCore(TanCalculatorCore.Engine.MINIMAX);
+            assertEquals(TanCalculatorCore.Engine.SERIES, coreFeatures.getEngine(), "Series engine is the default");
+            assertEquals(TanCalculatorCore.Engine.MINIMAX, minimax.getEngine());
+
+            java.util.Random random = new java.util.Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                double x = (random.nextDouble() * 2 - 1) * Math.PI;
+                double expected = StrictMath.tan(x);
+                if (Math.abs(expected) > 1e11) {
+                    continue;
+                }
+                double ulps = Math.abs(minimax.tan(x) - expected) / Math.ulp(expected);
+                assertTrue(ulps <= TanCalculatorMinimax.MAX_ULP_ERROR,
+                    "Minimax tan(" + x + ") is off by " + ulps + " ulp");
+            }
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                () -> minimax.tan(Math.PI / 2), "tan(π/2) should be undefined with the minimax engine");
+        }
+
+        @Test
+        @DisplayName("Test adaptive series termination")
+        void testAdaptiveSeriesTermination() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            coreFeatures.setInstrumented(true);
+
+            assertEquals(1e-9, coreFeatures.sin(1e-9), 0.0, "sin of a tiny angle is the angle itself");
+            assertEquals(1, coreFeatures.getSeriesTermsUsed(), "A tiny angle needs a single term");
+
+            coreFeatures.resetInstrumentation();
+            coreFeatures.tan(0.01);
+            assertEquals(1, coreFeatures.getSeriesEvaluations());
+            assertTrue(coreFeatures.getSeriesTermsUsed() <= 5, "A small angle should stop after a few terms");
+
+            coreFeatures.resetInstrumentation();
+            coreFeatures.cos(Math.PI);
+            assertEquals(coreFeatures.getMaxSeriesTerms(), coreFeatures.getSeriesTermsUsed(),
+                "cos(π) needs every term");
+
+            coreFeatures.setInstrumented(false);
+            coreFeatures.resetInstrumentation();
+            coreFeatures.sin(0.5);
+            assertEquals(0, coreFeatures.getSeriesEvaluations(), "Nothing is recorded when disabled");
+        }
+
+        @Test
+        @DisplayName("Test exact degree reduction")
+        void testReduceDegrees() throws Exception {
+            assertEquals(45.0, coreFeatures.reduceDegrees(405.0), 0.0, "405° should reduce to 45°");
+            assertEquals(45.0, coreFeatures.reduceDegrees(-315.0), 0.0, "-315° should reduce to 45°");
+            assertEquals(-80.0, coreFeatures.reduceDegrees(1e15), 0.0, "1e15° is 280° past a full turn");
+            assertEquals(0.0, coreFeatures.reduceDegrees(360.0 * 0x1p60), 0.0, "Huge multiples of 360° reduce to 0");
+
+            assertEquals(Math.tan(Math.toRadians(-80.0)), coreFeatures.calculateTangent("1e15"), 1e-12,
+                "tan(1e15°) should equal tan(280°)");
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                () -> coreFeatures.calculateTangent(Double.toString(90.0 + 360.0 * 0x1p40)),
+                "Any exact multiple of 360° plus 90° should be undefined");
+        }
+
+        @Test
+        @DisplayName("Test tangent of huge radian arguments")
+        void testTanHugeRadians() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            for (double x : new double[] {1e6, -3.5e9, 1e22, 1e300, -Double.MAX_VALUE}) {
+                double expected = StrictMath.tan(x);
+                assertEquals(expected, coreFeatures.tan(x), 1e-13 * Math.max(1.0, Math.abs(expected)),
+                    "tan(" + x + ") should be reduced exactly");
+            }
+        }
+
+        @Test
+        @DisplayName("Test minimax error bound on huge radian arguments")
+        void testMinimaxHugeRadiansBound() throws TanCalculatorErrorHandler.UndefinedTangentException {
+            TanCalculatorCore minimax = new TanCalculatorCore(TanCalculatorCore.Engine.MINIMAX);
+            java.util.Random random = new java.util.Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                // Uniform over the exponents from 2^20 up to Double.MAX_VALUE
+                double x = Math.scalb(1.0 + random.nextDouble(), 20 + random.nextInt(1004));
+                if (random.nextBoolean()) {
+                    x = -x;
+                }
+                double expected = StrictMath.tan(x);
+                if (Math.abs(expected) > 1e11) {
+                    continue;
+                }
+                double ulps = Math.abs(minimax.tan(x) - expected) / Math.ulp(expected);
+                assertTrue(ulps <= TanCalculatorMinimax.MAX_ULP_ERROR_HUGE,
+                    "Minimax tan(" + x + ") is off by " + ulps + " ulp");
+            }
+        }
+
+        @Test
+        @DisplayName("Test integer degree fast path")
+        void testIntegerDegreeFastPath() throws Exception {
+            coreFeatures.setInstrumented(true);
+            for (int deg = -720; deg <= 720; deg++) {
+                if (Math.floorMod(deg, 180) == 90) {
+                    final String input = Integer.toString(deg);
+                    assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                        () -> coreFeatures.calculateTangent(input), input + "° should be undefined");
+                    continue;
+                }
+                double expected = Math.tan(Math.toRadians(deg));
+                assertEquals(expected, coreFeatures.calculateTangent(Integer.toString(deg)),
+                    1e-13 * Math.max(1.0, Math.abs(expected)), "tan(" + deg + "°)");
+            }
+            assertEquals(1.0, coreFeatures.calculateTangent("45"), 0.0, "tan(45°) is exactly 1");
+            assertEquals(-1.0, coreFeatures.calculateTangent("-405"), 0.0, "tan(-405°) is exactly -1");
+            assertEquals(Math.tan(Math.toRadians(12.25)), coreFeatures.calculateTangent("12.25"), 1e-15,
+                "Quarter degrees come from the table too");
+            assertEquals(0, coreFeatures.getSeriesEvaluations(), "Table hits should not evaluate any series");
+        }
+
+        @Test
+        @DisplayName("Test result cache")
+        void testResultCache() throws Exception {
+            assertEquals(0, coreFeatures.getCacheCapacity(), "Caching is opt-in");
+            coreFeatures.setCacheCapacity(100);
+            assertEquals(128, coreFeatures.getCacheCapacity(), "Capacity rounds up to a power of two");
+
+            double first = coreFeatures.calculateTangent("45.125");
+            assertEquals(first, coreFeatures.calculateTangent("405.125"), 0.0, "405.125° shares the 45.125° entry");
+            assertEquals(first, coreFeatures.calculateTangent("-314.875"), 0.0, "-314.875° shares the 45.125° entry");
+            assertEquals(1, coreFeatures.getCacheMisses());
+            assertEquals(2, coreFeatures.getCacheHits());
+
+            double t = coreFeatures.tan(0.3);
+            assertEquals(t, coreFeatures.tan(0.3), 0.0);
+            assertEquals(3, coreFeatures.getCacheHits());
+
+            coreFeatures.setCacheCapacity(128);
+            assertEquals(0, coreFeatures.getCacheHits(), "Setting the same capacity resets the counters");
+            assertEquals(first, coreFeatures.calculateTangent("45.125"), 0.0);
+            assertEquals(0, coreFeatures.getCacheHits(), "Setting the same capacity empties the cache");
+            assertEquals(1, coreFeatures.getCacheMisses());
+
+            coreFeatures.setCacheCapacity(4);
+            for (int i = 0; i < 1000; i++) {
+                double deg = 10.1 + i;
+                assertEquals(new TanCalculatorCore().calculateTangent(Double.toString(deg)),
+                    coreFeatures.calculateTangent(Double.toString(deg)), 0.0, "Evicting must not corrupt results");
+            }
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                () -> coreFeatures.tan(Math.PI / 2), "Undefined results are cached as undefined");
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                () -> coreFeatures.tan(Math.PI / 2));
+
+            coreFeatures.setCacheCapacity(0);
+            assertEquals(0, coreFeatures.getCacheHits(), "Disabling drops the cache");
+        }
+
+        @Test
+        @DisplayName("Test exception-free status API")
+        void testStatusApi() throws Exception {
+            TanCalculatorResult result = new TanCalculatorResult();
+            assertEquals(TanCalculatorCore.STATUS_OK, coreFeatures.tryCalculateTangent("45", result));
+            assertTrue(result.isOk());
+            assertEquals(coreFeatures.calculateTangent("45"), result.getValue(), 0.0);
+
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, coreFeatures.tryCalculateTangent("90", result));
+            assertTrue(Double.isNaN(result.getValue()));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_EMPTY, coreFeatures.tryCalculateTangent("  ", result));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_EMPTY, coreFeatures.tryParseInput(null, result));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONNUMERIC, coreFeatures.tryCalculateTangent("abc", result));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, coreFeatures.tryParseInput("-Infinity", result));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, coreFeatures.tryTan(Double.NaN, result));
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, coreFeatures.tryTan(Math.PI / 2, result));
+            assertEquals(TanCalculatorCore.STATUS_OK, coreFeatures.tryTan(0.5, result));
+            assertEquals(coreFeatures.tan(0.5), result.getValue(), 0.0);
+
+            String[] literals = {" 1.5 ", "+.5", "5.", "1e3", "1E-3d", "2f", "0x1p3", "0X.8P+1", "0x1.8p-2D",
+                "NaN", "-Infinity", ".", "1e", "0x1", "0xp1", "1_0", "1.2.3", "e5", "Infinityf", "--1"};
+            for (String literal : literals) {
+                boolean parses;
+                try {
+                    Double.parseDouble(literal);
+                    parses = true;
+                } catch (NumberFormatException e) {
+                    parses = false;
+                }
+                byte status = coreFeatures.tryParseInput(literal, result);
+                assertEquals(parses, status != TanCalculatorCore.STATUS_INVALID_NONNUMERIC,
+                    "Syntax check must agree with Double.parseDouble for " + literal);
+            }
+        }
+
+        @Test
+        @DisplayName("Test zero-copy parser matches Double.parseDouble")
+        void testFastParser() {
+            TanCalculatorResult result = new TanCalculatorResult();
+            java.util.List<String> inputs = new java.util.ArrayList<>(java.util.Arrays.asList(
+                "0", "-0", " 45 ", "0.1", "1e23", "9007199254740993", "123456789012345678901234567890",
+                "1.7976931348623157e308", "1e400", "4.9e-324", "2.4703282292062328e-324", "1e-400",
+                "1.00000000000000011102230246251565404236316680908203125", "0x1.8p1", "-Infinity", "NaN",
+                "1e", ".", "0x1", "1.2.3", "4 5"));
+            java.util.Random random = new java.util.Random(12);
+            for (int i = 0; i < 10000; i++) {
+                inputs.add(Double.toString(Double.longBitsToDouble(random.nextLong())));
+                inputs.add(Double.toString((random.nextDouble() - 0.5) * 720));
+            }
+            for (String input : inputs) {
+                Double expected;
+                try {
+                    expected = Double.parseDouble(input);
+                } catch (NumberFormatException e) {
+                    expected = null;
+                }
+                byte[] utf8 = ("[" + input + "]").getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                char[] chars = ("[" + input + "]").toCharArray();
+                for (int overload = 0; overload < 4; overload++) {
+                    byte status;
+                    if (overload == 0) {
+                        status = TanCalculatorParser.parse(input, result);
+                    } else if (overload == 1) {
+                        status = TanCalculatorParser.parse(chars, 1, input.length(), result);
+                    } else if (overload == 2) {
+                        status = TanCalculatorParser.parse(utf8, 1, utf8.length - 2, result);
+                    } else {
+                        status = TanCalculatorParser.parse(java.nio.ByteBuffer.wrap(utf8, 1, utf8.length - 2), result);
+                    }
+                    if (expected == null) {
+                        assertEquals(TanCalculatorCore.STATUS_INVALID_NONNUMERIC, status, "Rejected: " + input);
+                    } else {
+                        assertEquals(TanCalculatorCore.STATUS_OK, status, "Accepted: " + input);
+                        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(result.getValue()),
+                            "Bit-identical to Double.parseDouble with overload " + overload + ": " + input);
+                    }
+                }
+            }
+            assertEquals(TanCalculatorCore.STATUS_INVALID_EMPTY, TanCalculatorParser.parse(" \t", result));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONNUMERIC,
+                TanCalculatorParser.parse("4\u00e95".getBytes(java.nio.charset.StandardCharsets.UTF_8), 0, 4, result));
+        }
+
+        @Test
+        @DisplayName("Test result formatter")
+        void testFormatter() {
+            int[] decimals = {0, 3, 6, 12};
+            java.util.Random random = new java.util.Random(16);
+            TanCalculatorFormatter shortest = new TanCalculatorFormatter(TanCalculatorFormatter.SHORTEST);
+            for (int d : decimals) {
+                TanCalculatorFormatter fixed = new TanCalculatorFormatter(d);
+                for (int i = 0; i < 20000; i++) {
+                    double v = i % 2 == 0 ? Math.tan(random.nextDouble() * 3.14) : (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(24) - 9);
+                    assertEquals(String.format(java.util.Locale.ROOT, "%." + d + "f", v), fixed.format(v), "%." + d + "f of " + v);
+                }
+            }
+            for (int i = 0; i < 20000; i++) {
+                double v = Double.longBitsToDouble(random.nextLong());
+                if (!Double.isNaN(v)) {
+                    String text = shortest.format(v);
+                    assertEquals(v, Double.parseDouble(text), 0.0, "Round trip of " + text);
+                    assertTrue(text.length() <= Double.toString(v).length(), "No longer than Double.toString: " + text);
+                }
+            }
+
+            TanCalculatorFormatter six = new TanCalculatorFormatter(6);
+            assertEquals("0.000001", six.format(5e-7), "Half-up on the shortest digits, like %.6f");
+            assertEquals("-0.000000", six.format(-1e-9));
+            assertEquals("1.000000", six.format(0.99999999));
+            assertEquals("NaN", six.format(Double.NaN));
+            assertEquals("-Infinity", six.format(Double.NEGATIVE_INFINITY));
+            assertEquals("1,500", new TanCalculatorFormatter(3, ',').format(1.5));
+            assertEquals("1.0E23", shortest.format(1e23));
+            assertEquals("0.001", shortest.format(0.001));
+            assertEquals("4.9E-324", shortest.format(Double.MIN_VALUE));
+            assertEquals("-0.0", shortest.format(-0.0));
+
+            char[] chars = new char[32];
+            int end = six.format(-2.5, chars, 4);
+            assertEquals("-2.500000", new String(chars, 4, end - 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> six.format(1.0, new byte[4], 0));
+        }
+
+        @Test
+        @DisplayName("Test complete tangent calculation flow")
+        void testCalculateTangent() throws TanCalculatorErrorHandler.InvalidInputException, 
+                                         TanCalculatorErrorHandler.UndefinedTangentException {
+            // Test valid input
+            double result = coreFeatures.calculateTangent("45");
+            assertEquals(1.0, result, 1e-6, "tan(45°) should be 1");
+
+            result = coreFeatures.calculateTangent("0");
+            assertEquals(0.0, result, 1e-10, "tan(0°) should be 0");
+
+            // Test invalid input
+            assertThrows(TanCalculatorErrorHandler.InvalidInputException.class,
+                () -> {
+                    try {
+                        coreFeatures.calculateTangent("abc");
+                    } catch (TanCalculatorErrorHandler.InvalidInputException e) {
+                        throw e;
+                    }
+                },
+                "Non-numeric input should throw InvalidInputException");
+
+            assertThrows(TanCalculatorErrorHandler.InvalidInputException.class,
+                () -> {
+                    try {
+                        coreFeatures.calculateTangent("");
+                    } catch (TanCalculatorErrorHandler.InvalidInputException e) {
+                        throw e;
+                    }
+                },
+                "Empty input should throw InvalidInputException");
+
+            // Test undefined tangent
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
+                () -> {
+                    try {
+                        coreFeatures.calculateTangent("90");
+                    } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
+                        throw e;
+                    }
+                },
+                "tan(90°) should be undefined");
+        }
+        
+        @Test
+        @DisplayName("Test angle range validation")
+        void testAngleRangeValidation() {
+            // Test angles within valid range
+            assertDoesNotThrow(() -> {
+                coreFeatures.calculateTangent("360");
+            }, "360 degrees should be valid");
+            
+            assertDoesNotThrow(() -> {
+                coreFeatures.calculateTangent("-360");
+            }, "-360 degrees should be valid");
+            
+            // Test angles outside valid range (these should still work due to normalization)
+            assertDoesNotThrow(() -> {
+                coreFeatures.calculateTangent("361");
+            }, "361 degrees should be normalized and valid");
+            
+            assertDoesNotThrow(() -> {
+                coreFeatures.calculateTangent("-361");
+            }, "-361 degrees should be normalized and valid");
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Evaluation Tests")
+    class BulkEvaluationTests {
+
+        @Test
+        @DisplayName("Test bulk tangent calculation with statuses")
+        void testCalculateTangents() {
+            double[] degrees = {45.0, 0.0, 90.0, Double.NaN, -45.0, Double.POSITIVE_INFINITY};
+            double[] out = new double[degrees.length];
+            byte[] status = new byte[degrees.length];
+
+            int ok = coreFeatures.calculateTangents(degrees, out, status, 0, degrees.length);
+            assertEquals(3, ok, "Three elements should evaluate successfully");
+
+            assertEquals(1.0, out[0], 1e-6, "tan(45°) should be 1");
+            assertEquals(0.0, out[1], 1e-10, "tan(0°) should be 0");
+            assertEquals(-1.0, out[4], 1e-6, "tan(-45°) should be -1");
+            assertEquals(TanCalculatorCore.STATUS_OK, status[0]);
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, status[2], "tan(90°) should be undefined");
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, status[3], "NaN should be invalid");
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, status[5], "Infinity should be invalid");
+            assertTrue(Double.isNaN(out[2]), "Undefined elements should be NaN");
+        }
+
+        @Test
+        @DisplayName("Test bulk calculation matches single calculation")
+        void testBulkMatchesScalar() throws Exception {
+            double[] degrees = {1.0, 30.0, 361.0, -361.0, 179.5, 1e6};
+            double[] out = new double[degrees.length + 2];
+            byte[] status = new byte[degrees.length + 2];
+            double[] shifted = new double[degrees.length + 2];
+            System.arraycopy(degrees, 0, shifted, 1, degrees.length);
+
+            coreFeatures.calculateTangents(shifted, out, status, 1, degrees.length);
+            for (int i = 0; i < degrees.length; i++) {
+                double expected = coreFeatures.calculateTangent(Double.toString(degrees[i]));
+                assertEquals(expected, out[i + 1], 1e-9 * Math.max(1.0, Math.abs(expected)),
+                    "Bulk result should match calculateTangent for " + degrees[i]);
+            }
+            assertEquals(0.0, out[0], "Elements outside the range should be untouched");
+            assertEquals(0.0, out[out.length - 1], "Elements outside the range should be untouched");
+
+            // Bit for bit, whether an element lands in a SIMD lane or the scalar tail
+            java.util.Random random = new java.util.Random(8);
+            double[] mixed = new double[1027];
+            for (int i = 0; i < mixed.length; i++) {
+                switch (i % 5) {
+                    case 0: mixed[i] = 45.0; break;
+                    case 1: mixed[i] = random.nextInt(1440) / 4.0 - 180.0; break;
+                    case 2: mixed[i] = Math.nextUp(45.0 * (random.nextInt(9) - 4)); break;
+                    case 3: mixed[i] = (random.nextDouble() - 0.5) * 1e6; break;
+                    default: mixed[i] = (random.nextDouble() - 0.5) * 720.0; break;
+                }
+            }
+            TanCalculatorResult result = new TanCalculatorResult();
+            for (TanCalculatorCore.Engine engine : TanCalculatorCore.Engine.values()) {
+                TanCalculatorCore core = new TanCalculatorCore(engine);
+                double[] tangents = new double[mixed.length];
+                byte[] codes = new byte[mixed.length];
+                core.calculateTangents(mixed, tangents, codes, 0, mixed.length);
+                for (int i = 0; i < mixed.length; i++) {
+                    byte expectedStatus = core.tryCalculateTangent(Double.toString(mixed[i]), result);
+                    assertEquals(expectedStatus, codes[i], engine + " status of " + mixed[i]);
+                    assertEquals(Double.doubleToLongBits(result.getValue()), Double.doubleToLongBits(tangents[i]),
+                        engine + " bulk result of " + mixed[i] + " at " + i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Test bulk statistics do not depend on the SIMD kernel")
+        void testBulkStatistics() {
+            double[] angles = {12.3, 100.7, -33.1};
+            double[] degrees = new double[1027];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = angles[i % angles.length];
+            }
+            double[] expected = new double[degrees.length];
+            coreFeatures.calculateTangents(degrees, expected, new byte[degrees.length], 0, degrees.length);
+
+            TanCalculatorCore cached = new TanCalculatorCore();
+            cached.setCacheCapacity(16);
+            double[] out = new double[degrees.length];
+            cached.calculateTangents(degrees, out, new byte[degrees.length], 0, degrees.length);
+            assertArrayEquals(expected, out, "Caching must not change bulk results");
+            assertEquals(angles.length, cached.getCacheMisses(), "Each distinct angle is evaluated once");
+            assertEquals(degrees.length - angles.length, cached.getCacheHits(), "Every repeat is a cache hit");
+
+            TanCalculatorCore instrumented = new TanCalculatorCore();
+            instrumented.setInstrumented(true);
+            java.nio.DoubleBuffer tangents = java.nio.DoubleBuffer.allocate(degrees.length);
+            instrumented.calculateTangents(java.nio.DoubleBuffer.wrap(degrees), tangents,
+                java.nio.ByteBuffer.allocate(degrees.length));
+            assertArrayEquals(expected, tangents.array(), "Instrumentation must not change bulk results");
+            assertEquals(degrees.length, instrumented.getSeriesEvaluations(), "Every bulk element is counted");
+        }
+
+        @Test
+        @DisplayName("Test memory-mapped binary batch")
+        void testBinaryBatch() throws Exception {
+            java.nio.file.Path dir = java.nio.file.Files.createTempDirectory("tanbatch");
+            java.nio.file.Path input = dir.resolve("in.bin");
+            java.nio.file.Path output = dir.resolve("out.bin");
+            try {
+                int n = 10_007;
+                double[] degrees = new double[n];
+                java.util.Random random = new java.util.Random(9);
+                for (int i = 0; i < n; i++) {
+                    degrees[i] = (random.nextDouble() - 0.5) * 1e5;
+                }
+                degrees[3] = 90;
+                degrees[4] = Double.NaN;
+                degrees[n - 1] = Double.NEGATIVE_INFINITY;
+                java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(n * 8).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+                bytes.asDoubleBuffer().put(degrees);
+                java.nio.file.Files.write(input, bytes.array());
+
+                long failures = new TanCalculatorBinaryBatch(TanCalculatorCore.Engine.SERIES, 3, 1000).process(input, output);
+                double[] expected = new double[n];
+                byte[] expectedStatus = new byte[n];
+                int ok = new TanCalculatorCore().calculateTangents(degrees, expected, expectedStatus, 0, n);
+                assertEquals(n - ok, failures);
+                assertEquals(3, failures);
+
+                java.nio.ByteBuffer result = java.nio.ByteBuffer.wrap(java.nio.file.Files.readAllBytes(output))
+                    .order(java.nio.ByteOrder.LITTLE_ENDIAN);
+                assertEquals(9L * n, result.capacity(), "Tangents followed by a status column");
+                for (int i = 0; i < n; i++) {
+                    double tolerance = Double.isNaN(expected[i]) ? 0 : 1e-12 * Math.max(1, Math.abs(expected[i]));
+                    assertEquals(expected[i], result.getDouble(i * 8), tolerance);
+                    assertEquals(expectedStatus[i], result.get(n * 8 + i), "Status of element " + i);
+                }
+
+                java.nio.file.Files.write(input, new byte[12]);
+                assertThrows(java.io.IOException.class,
+                    () -> new TanCalculatorBinaryBatch(TanCalculatorCore.Engine.SERIES, 1).process(input, output));
+            } finally {
+                java.nio.file.Files.deleteIfExists(input);
+                java.nio.file.Files.deleteIfExists(output);
+                java.nio.file.Files.deleteIfExists(dir);
+            }
+        }
+
+        @Test
+        @DisplayName("Test buffer bulk evaluation")
+        void testBufferBulk() {
+            int n = 1500;
+            double[] degrees = new double[n];
+            java.util.Random random = new java.util.Random(23);
+            for (int i = 0; i < n; i++) {
+                degrees[i] = (random.nextDouble() - 0.5) * 1e4;
+            }
+            degrees[7] = 90;
+            degrees[600] = Double.NaN;
+            double[] expected = new double[n];
+            byte[] expectedStatus = new byte[n];
+            int expectedOk = coreFeatures.calculateTangents(degrees, expected, expectedStatus, 0, n);
+
+            // Direct little-endian views with non-zero positions, spanning several chunks
+            java.nio.DoubleBuffer in = java.nio.ByteBuffer.allocateDirect((n + 3) * 8)
+                .order(java.nio.ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            in.position(3);
+            in.put(degrees).position(3);
+            java.nio.DoubleBuffer out = java.nio.DoubleBuffer.allocate(n + 5).position(5);
+            java.nio.ByteBuffer status = java.nio.ByteBuffer.allocateDirect(n + 2).position(2);
+            assertEquals(expectedOk, coreFeatures.calculateTangents(in, out, status));
+            assertEquals(3, in.position());
+            assertEquals(5, out.position());
+            assertEquals(2, status.position());
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], out.get(5 + i), 0.0, "Tangent " + i);
+                assertEquals(expectedStatus[i], status.get(2 + i), "Status " + i);
+            }
+            assertEquals(0, coreFeatures.calculateTangents(java.nio.DoubleBuffer.allocate(0), out, status));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> coreFeatures.calculateTangents(in, java.nio.DoubleBuffer.allocate(n - 1), status));
+        }
+
+        @Test
+        @DisplayName("Test parallel fork/join evaluation")
+        void testParallelBulk() {
+            int n = 100_003;
+            double[] degrees = new double[n];
+            java.util.Random random = new java.util.Random(18);
+            for (int i = 0; i < n; i++) {
+                degrees[i] = (random.nextDouble() - 0.5) * 1e4;
+            }
+            degrees[7] = 90;
+            degrees[50_000] = Double.NaN;
+            degrees[n - 1] = -270;
+            double[] expected = new double[n];
+            byte[] expectedStatus = new byte[n];
+            int expectedOk = new TanCalculatorCore().calculateTangents(degrees, expected, expectedStatus, 0, n);
+
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+            try {
+                TanCalculatorParallel parallel = new TanCalculatorParallel(TanCalculatorCore.Engine.SERIES, pool, 1000);
+                double[] out = new double[n + 2];
+                byte[] status = new byte[n + 2];
+                assertEquals(expectedOk, parallel.calculateTangents(degrees, out, status, 0, n));
+                assertEquals(n - 3, expectedOk);
+                for (int i = 0; i < n; i++) {
+                    double tolerance = Double.isNaN(expected[i]) ? 0 : 1e-12 * Math.max(1, Math.abs(expected[i]));
+                    assertEquals(expected[i], out[i], tolerance, "Tangent " + i);
+                    assertEquals(expectedStatus[i], status[i], "Status " + i);
+                }
+                assertEquals(0.0, out[n], "Nothing written past the range");
+                assertEquals(TanCalculatorCore.STATUS_UNDEFINED, status[7]);
+                assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, status[50_000]);
+
+                assertEquals(1, parallel.calculateTangents(degrees, out, status, 1, 1), "Single element below the grain");
+                assertThrows(IndexOutOfBoundsException.class,
+                    () -> parallel.calculateTangents(degrees, new double[n], new byte[n - 1], 0, n));
+                assertThrows(IllegalArgumentException.class,
+                    () -> new TanCalculatorParallel(TanCalculatorCore.Engine.SERIES, pool, 0));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Test parallel evaluation publishes errors with batch indices")
+        void testParallelErrorEvents() {
+            int n = 10_000;
+            double[] degrees = new double[n + 3];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = i % 180;
+            }
+            degrees[3 + 5000] = Double.NaN;
+            degrees[3 + n - 1] = Double.POSITIVE_INFINITY;
+            byte[] expected = new byte[n];
+            int expectedOk = new TanCalculatorCore().calculateTangents(degrees, new double[n + 3], new byte[n + 3], 3, n);
+
+            TanCalculatorErrorCounters counters = new TanCalculatorErrorCounters();
+            TanCalculatorStatusColumn column = new TanCalculatorStatusColumn(n);
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+            try (TanCalculatorErrorBus bus = new TanCalculatorErrorBus(1024, counters, column)) {
+                TanCalculatorParallel parallel = new TanCalculatorParallel(TanCalculatorCore.Engine.SERIES, pool, 700, bus);
+                byte[] status = new byte[n + 3];
+                assertEquals(expectedOk, parallel.calculateTangents(degrees, new double[n + 3], status, 3, n));
+                System.arraycopy(status, 3, expected, 0, n);
+                bus.drain();
+                assertEquals(0, bus.getDropped());
+            } finally {
+                pool.shutdown();
+            }
+            assertEquals(n - expectedOk, counters.getTotal(), "Every failed element is counted once");
+            assertEquals(2, counters.get(TanCalculatorErrorEvent.Kind.NON_FINITE_INPUT));
+            assertEquals(n - expectedOk - 2, counters.get(TanCalculatorErrorEvent.Kind.UNDEFINED_TANGENT));
+            assertArrayEquals(expected, column.toArray(), "Indices are offsets from the first element of the call");
+        }
+
+        @Test
+        @DisplayName("Test incremental angle sweep")
+        void testSweep() {
+            // Exactly representable angles, so only the recurrence drift is measured
+            double start = -200.5;
+            double step = 0x1p-7;
+            int n = 60_000;
+            double[] degrees = new double[n];
+            for (int i = 0; i < n; i++) {
+                degrees[i] = start + i * step;
+            }
+            double[] expected = new double[n];
+            byte[] expectedStatus = new byte[n];
+            int expectedOk = coreFeatures.calculateTangents(degrees, expected, expectedStatus, 0, n);
+
+            TanCalculatorSweep sweep = new TanCalculatorSweep(coreFeatures, start, step, n);
+            double[] out = new double[n];
+            byte[] status = new byte[n];
+            boolean[] crossed = new boolean[n];
+            assertEquals(expectedOk, sweep.next(out, status, crossed, 0, n));
+            assertFalse(sweep.hasNext());
+            int crossings = 0;
+            for (int i = 0; i < n; i++) {
+                assertEquals(expectedStatus[i], status[i], "Status at " + degrees[i]);
+                if (status[i] == TanCalculatorCore.STATUS_OK) {
+                    assertEquals(expected[i], out[i], 1e-13 * Math.max(1, Math.abs(expected[i])), "tan " + degrees[i]);
+                }
+                if (crossed[i]) {
+                    crossings++;
+                    assertEquals(0, Math.floorMod((long) Math.ceil(degrees[i] - 90), 180L),
+                        "Crossing flagged at the first sample past an asymptote, " + degrees[i]);
+                }
+            }
+            assertEquals(2, crossings, "Asymptotes at -90 and 90 degrees");
+            assertEquals(2, n - expectedOk, "Samples exactly at -90 and 90 degrees are undefined");
+            assertThrows(java.util.NoSuchElementException.class, () -> sweep.next(new TanCalculatorResult()));
+
+            // Large descending steps cross an asymptote at (almost) every sample
+            TanCalculatorSweep descending = new TanCalculatorSweep(coreFeatures, 1000.3, -179.9, 4);
+            TanCalculatorResult result = new TanCalculatorResult();
+            boolean[] flags = new boolean[4];
+            for (int i = 0; i < 4; i++) {
+                assertEquals(TanCalculatorCore.STATUS_OK, descending.next(result));
+                assertEquals(Math.tan(Math.toRadians(1000.3 - 179.9 * i)), result.getValue(), 1e-9);
+                flags[i] = descending.crossedAsymptote();
+            }
+            assertArrayEquals(new boolean[] {false, true, true, true}, flags);
+
+            // Quarter-degree sweeps use the exact table
+            TanCalculatorSweep quarter = new TanCalculatorSweep(coreFeatures, 0, 0.25, 400);
+            quarter.next(out, status, null, 0, 400);
+            assertEquals(1.0, out[180], 0.0, "tan 45 degrees is exact");
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, status[360]);
+
+            assertThrows(IllegalArgumentException.class, () -> new TanCalculatorSweep(coreFeatures, 0, Double.NaN, 2));
+            assertThrows(IllegalArgumentException.class, () -> new TanCalculatorSweep(coreFeatures, 0, 1, 10, 0));
+        }
+
+        @Test
+        @DisplayName("Test bulk range validation")
+        void testBulkRangeValidation() {
+            double[] degrees = new double[4];
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> coreFeatures.calculateTangents(degrees, new double[4], new byte[2], 0, 4),
+                "Short status array should be rejected");
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> coreFeatures.calculateTangents(degrees, new double[4], new byte[4], 2, 3),
+                "Range past the end should be rejected");
+        }
+
+        @Test
+        @DisplayName("Test streaming filter")
+        void testStreamFilter() throws Exception {
+            StringBuilder input = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            TanCalculatorResult result = new TanCalculatorResult();
+            java.util.Random random = new java.util.Random(5);
+            for (int i = 0; i < 5000; i++) {
+                String angle = i % 97 == 0 ? "90" : i % 89 == 0 ? "abc" : Double.toString((random.nextDouble() - 0.5) * 720);
+                input.append(angle).append(i % 7 == 0 ? "\r\n" : "\n");
+                byte status = coreFeatures.tryCalculateTangent(angle, result);
+                expected.append(status == TanCalculatorCore.STATUS_OK
+                    ? String.format(java.util.Locale.ROOT, "%.6f", result.getValue())
+                    : status == TanCalculatorCore.STATUS_UNDEFINED ? "UNDEFINED" : "INVALID INPUT").append('\n');
+            }
+            input.append("x".repeat(3000)).append("\n-45");
+            expected.append("INVALID INPUT\n-1.000000\n");
+
+            TanCalculatorStreamFilter filter = new TanCalculatorStreamFilter(coreFeatures, 1024);
+            java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+            long failures = filter.filter(new java.io.ByteArrayInputStream(
+                input.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8)), out);
+            assertEquals(expected.toString(), out.toString(java.nio.charset.StandardCharsets.UTF_8));
+            assertEquals(5002, filter.getLines());
+            assertEquals(failures, filter.getFailures());
+            assertEquals(52 + 56 + 1, failures, "Undefined, invalid and overlong lines");
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Handler Tests")
+    class ErrorHandlerTests {
+
+        @Test
+        @DisplayName("Test stackless shared exceptions")
+        void testStacklessExceptions() {
+            TanCalculatorErrorHandler.UndefinedTangentException first =
+                assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class, () -> coreFeatures.calculateTangent("90"));
+            TanCalculatorErrorHandler.UndefinedTangentException second =
+                assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class, () -> coreFeatures.calculateTangent("270"));
+            assertSame(first, second, "Undefined tangents share one instance");
+            assertEquals("cos≈0", first.getMessage());
+            assertEquals(0, first.getStackTrace().length, "Shared instances carry no stack trace");
+            assertThrows(IllegalStateException.class, () -> first.initCause(new RuntimeException()),
+                "Shared instances are immutable");
+
+            TanCalculatorErrorHandler.InvalidInputException invalid =
+                assertThrows(TanCalculatorErrorHandler.InvalidInputException.class, () -> coreFeatures.calculateTangent("abc"));
+            assertSame(TanCalculatorErrorHandler.nonNumericInput(), invalid);
+            assertEquals("Non‑numeric input", invalid.getMessage());
+
+            TanCalculatorErrorHandler.setFullStackTraces(true);
+            try {
+                TanCalculatorErrorHandler.InvalidInputException traced =
+                    assertThrows(TanCalculatorErrorHandler.InvalidInputException.class, () -> coreFeatures.calculateTangent(""));
+                assertNotSame(TanCalculatorErrorHandler.emptyInput(), traced);
+                assertEquals("Empty input", traced.getMessage());
+                assertTrue(traced.getStackTrace().length > 0, "Debug mode restores stack traces");
+            } finally {
+                TanCalculatorErrorHandler.setFullStackTraces(false);
+            }
+        }
+
+        @Test
+        @DisplayName("Test error events and sinks")
+        void testErrorEvents() throws Exception {
+            java.util.List<String> seen = new java.util.ArrayList<>();
+            TanCalculatorErrorCounters counters = new TanCalculatorErrorCounters();
+            TanCalculatorStatusColumn column = new TanCalculatorStatusColumn(6);
+            java.io.ByteArrayOutputStream logged = new java.io.ByteArrayOutputStream();
+            TanCalculatorErrorLog log = new TanCalculatorErrorLog(new java.io.PrintStream(logged, true, "UTF-8"), 3);
+            TanCalculatorErrorBus bus = new TanCalculatorErrorBus(64,
+                event -> seen.add(event.getKind() + " " + event.getIndex() + " " + event.getInput()),
+                counters, column, log);
+            coreFeatures.setErrorBus(bus);
+            TanCalculatorResult result = new TanCalculatorResult();
+            coreFeatures.tryCalculateTangent("abc", result);
+            coreFeatures.tryCalculateTangent("45", result);
+            coreFeatures.tryCalculateTangent(" ", result);
+            coreFeatures.tryCalculateTangent("x".repeat(100), result);
+            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class, () -> coreFeatures.calculateTangent("90"));
+            double[] degrees = {0, 90, Double.NaN, 45, 0, -270};
+            coreFeatures.calculateTangents(degrees, new double[6], new byte[6], 0, 6);
+            assertTrue(seen.isEmpty(), "Nothing is delivered before a drain");
+            assertEquals(7, bus.drain());
+            coreFeatures.setErrorBus(null);
+
+            assertEquals(java.util.List.of(
+                "NON_NUMERIC_INPUT -1 abc", "EMPTY_INPUT -1  ",
+                "NON_NUMERIC_INPUT -1 " + "x".repeat(TanCalculatorErrorEvent.MAX_INPUT_CHARS) + "...",
+                "UNDEFINED_TANGENT -1 90", "UNDEFINED_TANGENT 1 90.0", "NON_FINITE_INPUT 2 NaN",
+                "UNDEFINED_TANGENT 5 -270.0"), seen);
+            assertEquals(7, counters.getTotal());
+            assertEquals(3, counters.get(TanCalculatorErrorEvent.Kind.UNDEFINED_TANGENT));
+            assertArrayEquals(new byte[] {0, 1, 2, 0, 0, 1}, column.toArray());
+            assertEquals(3, column.getFailures());
+            String[] lines = logged.toString("UTF-8").split("\n");
+            assertTrue(lines[0].endsWith("NON_NUMERIC_INPUT abc"), lines[0]);
+            assertTrue(log.getSuppressed() > 0, "At most 3 lines per second");
+            assertEquals(7 - log.getSuppressed(), java.util.Arrays.stream(lines).filter(l -> !l.startsWith("...")).count());
+
+            // Stream errors carry line numbers; text only when the line did not parse
+            seen.clear();
+            TanCalculatorCore streaming = new TanCalculatorCore();
+            streaming.setErrorBus(bus);
+            new TanCalculatorStreamFilter(streaming).filter(new java.io.ByteArrayInputStream(
+                "1\n90\nabc\u00e9\n2\n".getBytes(java.nio.charset.StandardCharsets.UTF_8)), new java.io.ByteArrayOutputStream());
+            bus.close();
+            assertEquals(java.util.List.of("NON_NUMERIC_INPUT 2 abc\u00e9", "UNDEFINED_TANGENT 1 90.0"), seen);
+            assertEquals(0, bus.getDropped());
+            assertThrows(IllegalArgumentException.class, () -> new TanCalculatorErrorBus(12));
+            assertThrows(IllegalArgumentException.class, () -> TanCalculatorErrorEvent.Kind.ofStatus(TanCalculatorCore.STATUS_OK));
+        }
+
+        @Test
+        @DisplayName("Test error bus never blocks producers")
+        void testErrorBusOverflow() throws Exception {
+            TanCalculatorErrorCounters counters = new TanCalculatorErrorCounters();
+            TanCalculatorErrorBus full = new TanCalculatorErrorBus(4, counters);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i < 4, full.publish(TanCalculatorErrorEvent.Kind.EMPTY_INPUT, "", i));
+            }
+            assertEquals(4, full.drain());
+            assertEquals(6, full.getDropped());
+            assertTrue(full.publish(TanCalculatorErrorEvent.Kind.EMPTY_INPUT, "", 10), "Drained slots are reused");
+
+            // Concurrent producers against the dispatcher thread: every event is delivered or counted as dropped
+            counters.reset();
+            TanCalculatorErrorBus bus = new TanCalculatorErrorBus(256, counters,
+                event -> { throw new IllegalStateException("failing sink"); }).start();
+            Thread[] producers = new Thread[4];
+            for (int t = 0; t < producers.length; t++) {
+                producers[t] = new Thread(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        bus.publish(TanCalculatorErrorEvent.Kind.UNDEFINED_TANGENT, 90.0, i);
+                    }
+                });
+                producers[t].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            bus.close();
+            assertEquals(80_000, bus.getPublished() + bus.getDropped());
+            assertEquals(bus.getPublished(), counters.get(TanCalculatorErrorEvent.Kind.UNDEFINED_TANGENT));
+            assertEquals(bus.getPublished(), bus.getSinkFailures(), "A failing sink does not stop delivery");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * TanCalculatorExceptionBenchmark - Throughput of the error paths.
+ * 
+ * Evaluates an asymptote-heavy input mix through {@link TanCalculatorCore#calculateTangent(String)}
+ * with full stack traces, with the shared stackless exceptions, and through the
+ * exception-free {@link TanCalculatorCore#tryCalculateTangent(CharSequence, TanCalculatorResult)}.
+ * Run with {@code java -cp core/target/classes:core/target/test-classes TanCalculatorExceptionBenchmark}.
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorExceptionBenchmark {
+
+    /**
+     * Inputs: mostly asymptotes, plus invalid and valid values.
+     */
+    private static final String[] INPUTS = {
+        "90", "270", "-90", "450", "-630", "810", "abc", "45"
+    };
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int CALLS_PER_ROUND = 2_000_000;
+
+    private TanCalculatorExceptionBenchmark() {
+        // Entry point only
+    }
+
+    /**
+     * Run the benchmark and print calls per second for each mode.
+     * 
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        TanCalculatorCore core = new TanCalculatorCore();
+        boolean previous = TanCalculatorErrorHandler.isFullStackTraces();
+        try {
+            TanCalculatorErrorHandler.setFullStackTraces(true);
+            report("full stack traces", core, false);
+            TanCalculatorErrorHandler.setFullStackTraces(false);
+            report("stackless shared", core, false);
+            report("status API", core, true);
+        } finally {
+            TanCalculatorErrorHandler.setFullStackTraces(previous);
+        }
+    }
+
+    private static void report(String mode, TanCalculatorCore core, boolean statusApi) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round(core, statusApi);
+        }
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += round(core, statusApi);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double callsPerSecond = CALLS_PER_ROUND * 1e9 / best;
+        System.out.printf("%-18s %,14.0f calls/s  (checksum %d)%n", mode, callsPerSecond, sink);
+    }
+
+    private static long round(TanCalculatorCore core, boolean statusApi) {
+        TanCalculatorResult result = new TanCalculatorResult();
+        long errors = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            String input = INPUTS[i % INPUTS.length];
+            if (statusApi) {
+                if (core.tryCalculateTangent(input, result) != TanCalculatorCore.STATUS_OK) {
+                    errors++;
+                }
+            } else {
+                try {
+                    core.calculateTangent(input);
+                } catch (TanCalculatorErrorHandler.InvalidInputException
+                         | TanCalculatorErrorHandler.UndefinedTangentException e) {
+                    errors++;
+                }
+            }
+        }
+        return errors;
+    }
+}
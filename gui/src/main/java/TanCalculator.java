@@ -0,0 +1,78 @@
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * TanCalculator - Main application class for calculating tangent values.
+ * 
+ * This is the main entry point that coordinates the GUI, core features,
+ * and error handling components. With arguments, with {@code java.awt.headless=true}
+ * or without a display it runs {@link TanCalculatorCli} instead, and no Swing or
+ * AWT class is loaded.
+ * 
+ * Version: 1.0.0
+ * 
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TanCalculator {
+    
+    /**
+     * Application version following semantic versioning.
+     */
+    public static final String VERSION = TanCalculatorCore.VERSION;
+
+    /**
+     * Main method to launch the application.
+     * 
+     * @param args command line arguments: {@code --gui} on its own forces the GUI,
+     *             anything else selects the command-line mode (see {@link TanCalculatorCli})
+     */
+    public static void main(String[] args) {
+        if (isCommandLineMode(args)) {
+            TanCalculatorCli.main(args);
+            return;
+        }
+        launchGui();
+    }
+
+    /**
+     * Decide between the GUI and the command-line mode without touching AWT.
+     * 
+     * @param args command line arguments
+     * @return true if the command-line mode should run
+     */
+    static boolean isCommandLineMode(String[] args) {
+        if (args.length > 0) {
+            return !(args.length == 1 && "--gui".equals(args[0]));
+        }
+        if (Boolean.getBoolean("java.awt.headless")) {
+            return true;
+        }
+        String os = System.getProperty("os.name", "");
+        boolean needsDisplay = !os.startsWith("Windows") && !os.startsWith("Mac");
+        return needsDisplay && isBlank(System.getenv("DISPLAY")) && isBlank(System.getenv("WAYLAND_DISPLAY"));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Set the look and feel and open the GUI on the event dispatch thread.
+     */
+    private static void launchGui() {
+        // Set system look and feel for better accessibility
+        try {
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (Exception e) {
+            // Fall back to default look and feel
+            System.err.println("Warning: Could not set system look and feel: " + e.getMessage());
+        }
+        
+        EventQueue.invokeLater(() -> {
+            TanCalculatorGUI gui = new TanCalculatorGUI();
+            gui.setVisible(true);
+        });
+    }
+}
@@ -2,28 +2,29 @@ import javax.swing.*;
 import java.awt.*;
 
 /**
- * TanCalculatorErrorHandler - Error handling and user feedback management.
- * 
- * This class handles all exceptions and provides appropriate user feedback
- * through the GUI. It contains custom exceptions and methods for displaying
- * error messages with proper styling.
- * 
+ * TanCalculatorErrorDisplay - User feedback for errors in the GUI.
+ *
+ * This class provides appropriate user feedback through the GUI by updating
+ * the result label with error messages and proper styling. The exceptions it
+ * reports are defined in {@link TanCalculatorErrorHandler} in the core module;
+ * {@link #labelSink(JLabel)} adapts a label to the core's error events.
+ *
  * @author TanCalculator Team
  * @version 1.0.0
  * @since 1.0.0
  */
-public class TanCalculatorErrorHandler {
-    
+public class TanCalculatorErrorDisplay {
+
     /**
-     * Default constructor for TanCalculatorErrorHandler.
+     * Default constructor for TanCalculatorErrorDisplay.
      */
-    public TanCalculatorErrorHandler() {
+    public TanCalculatorErrorDisplay() {
         // No initialization needed
     }
 
     /**
      * Handle undefined tangent exception by updating the result label.
-     * 
+     *
      * @param resultLabel the label to update with error message
      */
     public void handleUndefinedTangent(JLabel resultLabel) {
@@ -33,7 +34,7 @@ public class TanCalculatorErrorHandler {
 
     /**
      * Handle invalid input exception by updating the result label.
-     * 
+     *
      * @param resultLabel the label to update with error message
      */
     public void handleInvalidInput(JLabel resultLabel) {
@@ -43,7 +44,7 @@ public class TanCalculatorErrorHandler {
 
     /**
      * Handle unexpected errors by updating the result label.
-     * 
+     *
      * @param resultLabel the label to update with error message
      */
     public void handleUnexpectedError(JLabel resultLabel) {
@@ -53,7 +54,7 @@ public class TanCalculatorErrorHandler {
 
     /**
      * Handle specific error with custom message.
-     * 
+     *
      * @param resultLabel the label to update with error message
      * @param message the custom error message
      */
@@ -63,50 +64,41 @@ public class TanCalculatorErrorHandler {
     }
 
     /**
-     * Clear error state and reset to default appearance.
-     * 
-     * @param resultLabel the label to reset
+     * Handle an error of the given kind by updating the result label.
+     *
+     * @param resultLabel the label to update with error message
+     * @param kind the kind of error
      */
-    public void clearError(JLabel resultLabel) {
-        resultLabel.setText("Result:");
-        resultLabel.setForeground(Color.BLUE);
+    public void handleError(JLabel resultLabel, TanCalculatorErrorEvent.Kind kind) {
+        if (kind == TanCalculatorErrorEvent.Kind.UNDEFINED_TANGENT) {
+            handleUndefinedTangent(resultLabel);
+        } else {
+            handleInvalidInput(resultLabel);
+        }
     }
 
-    // ------------------------------------------------------------------
-    // Custom exceptions implementing FR‑5 and FR‑6 behaviours
-    // ------------------------------------------------------------------
-    
     /**
-     * Exception thrown when input is invalid.
-     * Implements FR-6 behavior for input validation.
+     * Create an error sink that shows each event on a label. The sink runs on the
+     * bus's consumer thread and only hands the error kind to the event dispatch
+     * thread, so producers never wait for Swing.
+     *
+     * @param resultLabel the label to update with error messages
+     * @return a sink for a {@link TanCalculatorErrorBus}
      */
-    public static class InvalidInputException extends Exception {
-        private static final long serialVersionUID = 1L;
-        
-        /**
-         * Constructor for InvalidInputException.
-         * 
-         * @param message the error message
-         */
-        public InvalidInputException(String message) {
-            super(message);
-        }
+    public TanCalculatorErrorSink labelSink(JLabel resultLabel) {
+        return event -> {
+            TanCalculatorErrorEvent.Kind kind = event.getKind();
+            EventQueue.invokeLater(() -> handleError(resultLabel, kind));
+        };
     }
-    
+
     /**
-     * Exception thrown when tangent is undefined.
-     * Implements FR-5 behavior for undefined tangent detection.
+     * Clear error state and reset to default appearance.
+     *
+     * @param resultLabel the label to reset
      */
-    public static class UndefinedTangentException extends Exception {
-        private static final long serialVersionUID = 1L;
-        
-        /**
-         * Constructor for UndefinedTangentException.
-         * 
-         * @param message the error message
-         */
-        public UndefinedTangentException(String message) {
-            super(message);
-        }
+    public void clearError(JLabel resultLabel) {
+        resultLabel.setText("Result:");
+        resultLabel.setForeground(Color.BLUE);
     }
-} 
\ No newline at end of file
+}
@@ -12,6 +12,10 @@ import java.awt.event.ComponentEvent;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * TanCalculatorGUI - GUI component for the tangent calculator application.
@@ -19,6 +23,8 @@ import javax.swing.plaf.basic.BasicButtonUI;
  * This class handles all user interface components, accessibility features,
  * and user interactions. It delegates mathematical operations to the core
  * features class and error handling to the error handling class.
+ * Calculations run on a background thread so the window stays responsive;
+ * only their final result is published back to the event dispatch thread.
  * 
  * @author TanCalculator Team
  * @version 1.0.0
@@ -82,9 +88,29 @@ public class TanCalculatorGUI extends JFrame implements Accessible {
     private final TanCalculatorCore coreFeatures;
 
     /**
-     * Error handler for managing exceptions and user feedback.
+     * Error display for user feedback.
      */
-    private final TanCalculatorErrorHandler errorHandler;
+    private final TanCalculatorErrorDisplay errorDisplay;
+
+    /**
+     * Six-decimal result formatter using the locale's decimal separator, as %.6f did.
+     */
+    private final TanCalculatorFormatter resultFormatter;
+
+    /**
+     * Single background thread running calculations one at a time, so the core
+     * and the formatter are never used concurrently.
+     */
+    private final transient ExecutorService calculationExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "tan-calculator-compute");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Calculation queued or running, or null; only accessed on the EDT.
+     */
+    private transient Calculation pendingCalculation;
 
     /**
      * Default constructor for TanCalculatorGUI.
@@ -93,7 +119,9 @@ public class TanCalculatorGUI extends JFrame implements Accessible {
     public TanCalculatorGUI() {
         super("tan(x) Calculator v" + TanCalculator.VERSION);
         this.coreFeatures = new TanCalculatorCore();
-        this.errorHandler = new TanCalculatorErrorHandler();
+        this.errorDisplay = new TanCalculatorErrorDisplay();
+        char separator = DecimalFormatSymbols.getInstance().getDecimalSeparator();
+        this.resultFormatter = new TanCalculatorFormatter(6, separator <= 0x7F ? separator : '.');
         buildUI();
         setupAccessibility();
         setupResponsiveDesign();
@@ -337,6 +365,7 @@ public class TanCalculatorGUI extends JFrame implements Accessible {
         
         // Clear button action
         clearButton.addActionListener(e -> {
+            cancelCalculation();
             inputField.setText("");
             resultLabel.setText("Result:");
             statusLabel.setText("Ready");
@@ -481,42 +510,103 @@ public class TanCalculatorGUI extends JFrame implements Accessible {
      *   3. Compute tan(x) using Maclaurin engine (FR‑3, FR‑4, FR‑5)
      *   4. Format output (FR‑8) or show UNDEFINED / INVALID INPUT
      *   5. Catch any unexpected exceptions (FR‑10)
+     * Steps 1–4 run in a background {@link Calculation}. Rapid repeated requests
+     * are coalesced: the same input as the pending calculation is ignored, and a
+     * new input cancels the pending calculation, so only the latest is shown.
      */
     private void compute() {
-        try {
-            String txt = inputField.getText().trim();
-            if (txt.equalsIgnoreCase("exit")) { // FR‑7 – exit keyword
-                dispose();
-                return;
+        String txt = inputField.getText().trim();
+        if (txt.equalsIgnoreCase("exit")) { // FR‑7 – exit keyword
+            cancelCalculation();
+            dispose();
+            return;
+        }
+        if (pendingCalculation != null) {
+            if (pendingCalculation.input.equals(txt)) {
+                return;                                 // already being calculated
+            }
+            pendingCalculation.cancel(true);
+        }
+
+        statusLabel.setText("Calculating...");
+        statusLabel.setForeground(new Color(0, 123, 255));
+        pendingCalculation = new Calculation(txt);
+        calculationExecutor.execute(pendingCalculation);
+    }
+
+    /**
+     * Cancel the pending calculation, if any, so its result is never shown.
+     */
+    private void cancelCalculation() {
+        if (pendingCalculation != null) {
+            pendingCalculation.cancel(true);
+            pendingCalculation = null;
+        }
+    }
+
+    /**
+     * Background calculation of one input. Parsing, evaluation and formatting run
+     * on {@link #calculationExecutor}. One evaluation has no meaningful progress,
+     * so the status label shows an indeterminate "Calculating..." from
+     * {@link #compute()} until the result goes to the result label on the EDT,
+     * and only while this is still the pending calculation.
+     */
+    private final class Calculation extends SwingWorker<String, Void> {
+
+        private final String input;
+
+        /**
+         * Status of the calculation, read in {@link #done()} after {@link #get()}.
+         */
+        private byte status;
+
+        Calculation(String input) {
+            this.input = input;
+        }
+
+        @Override
+        protected String doInBackground() {
+            TanCalculatorResult result = new TanCalculatorResult();
+            status = coreFeatures.tryCalculateTangent(input, result);
+            if (status != TanCalculatorCore.STATUS_OK || isCancelled()) {
+                return null;
+            }
+            return resultFormatter.format(result.getValue());
+        }
+
+        @Override
+        protected void done() {
+            if (this != pendingCalculation || isCancelled()) {
+                return;                                 // superseded, cleared or closed
+            }
+            pendingCalculation = null;
+            try {
+                String text = get();
+                if (status == TanCalculatorCore.STATUS_OK) {
+                    // Display successful result
+                    resultLabel.setText("Result: " + text);
+                    resultLabel.setForeground(new Color(40, 167, 69));
+                    statusLabel.setText("Calculation completed successfully");
+                    statusLabel.setForeground(new Color(40, 167, 69));
+                } else if (status == TanCalculatorCore.STATUS_UNDEFINED) {
+                    // Handle undefined tangent
+                    errorDisplay.handleUndefinedTangent(resultLabel);
+                    statusLabel.setText("Undefined tangent - angle at asymptote");
+                    statusLabel.setForeground(new Color(220, 53, 69));
+                } else {
+                    // Handle invalid input
+                    errorDisplay.handleInvalidInput(resultLabel);
+                    statusLabel.setText("Invalid input - please check your entry");
+                    statusLabel.setForeground(new Color(220, 53, 69));
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                // Handle unexpected errors
+                errorDisplay.handleUnexpectedError(resultLabel);
+                statusLabel.setText("Unexpected error occurred");
+                statusLabel.setForeground(new Color(220, 53, 69));
             }
-            
-            statusLabel.setText("Calculating...");
-            statusLabel.setForeground(new Color(0, 123, 255));
-            
-            // Delegate to core features for mathematical operations
-            double result = coreFeatures.calculateTangent(txt);
-            
-            // Display successful result
-            resultLabel.setText(String.format("Result: %.6f", result));
-            resultLabel.setForeground(new Color(40, 167, 69));
-            statusLabel.setText("Calculation completed successfully");
-            statusLabel.setForeground(new Color(40, 167, 69));
-            
-        } catch (TanCalculatorErrorHandler.UndefinedTangentException ute) {
-            // Handle undefined tangent
-            errorHandler.handleUndefinedTangent(resultLabel);
-            statusLabel.setText("Undefined tangent - angle at asymptote");
-            statusLabel.setForeground(new Color(220, 53, 69));
-        } catch (TanCalculatorErrorHandler.InvalidInputException iie) {
-            // Handle invalid input
-            errorHandler.handleInvalidInput(resultLabel);
-            statusLabel.setText("Invalid input - please check your entry");
-            statusLabel.setForeground(new Color(220, 53, 69));
-        } catch (Exception ex) {
-            // Handle unexpected errors
-            errorHandler.handleUnexpectedError(resultLabel);
-            statusLabel.setText("Unexpected error occurred");
-            statusLabel.setForeground(new Color(220, 53, 69));
         }
     }
 
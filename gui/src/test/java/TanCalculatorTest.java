@@ -10,11 +10,10 @@ import java.awt.event.KeyEvent;
 import java.lang.reflect.Method;
 
 /**
- * Unit tests for TanCalculator modular components.
+ * Unit tests for the gui module.
  * 
- * Tests cover all mathematical functions, input validation,
- * accessibility features, and GUI behavior across the new
- * modular architecture.
+ * Tests cover the launcher, error display, accessibility features,
+ * and GUI behavior together with the core module.
  * 
  * @version 1.0.0
  */
@@ -23,13 +22,13 @@ class TanCalculatorTest {
 
     private TanCalculatorCore coreFeatures;
     private TanCalculatorGUI gui;
-    private TanCalculatorErrorHandler errorHandler;
+    private TanCalculatorErrorDisplay errorDisplay;
 
     @BeforeEach
     void setUp() {
         // Initialize core components
         coreFeatures = new TanCalculatorCore();
-        errorHandler = new TanCalculatorErrorHandler();
+        errorDisplay = new TanCalculatorErrorDisplay();
         
         // Run GUI tests on EDT
         if (SwingUtilities.isEventDispatchThread()) {
@@ -44,151 +43,32 @@ class TanCalculatorTest {
     }
 
     @Nested
-    @DisplayName("Core Features Tests")
-    class CoreFeaturesTests {
+    @DisplayName("Launcher Tests")
+    class LauncherTests {
 
         @Test
-        @DisplayName("Test degree to radian conversion")
-        void testToRadians() {
-            double result = coreFeatures.toRadians(180.0);
-            assertEquals(Math.PI, result, 1e-10, "180 degrees should equal π radians");
-
-            result = coreFeatures.toRadians(90.0);
-            assertEquals(Math.PI / 2, result, 1e-10, "90 degrees should equal π/2 radians");
-
-            result = coreFeatures.toRadians(0.0);
-            assertEquals(0.0, result, 1e-10, "0 degrees should equal 0 radians");
-        }
-
-        @Test
-        @DisplayName("Test radian normalization")
-        void testNormalizeRadians() {
-            // Test values within [-π, π]
-            double result = coreFeatures.normalizeRadians(Math.PI / 2);
-            assertEquals(Math.PI / 2, result, 1e-10, "π/2 should remain π/2");
-
-            // Test values outside range
-            result = coreFeatures.normalizeRadians(3 * Math.PI);
-            assertEquals(Math.PI, result, 1e-10, "3π should normalize to π");
-
-            result = coreFeatures.normalizeRadians(-3 * Math.PI);
-            assertEquals(-Math.PI, result, 1e-10, "-3π should normalize to -π");
-        }
-
-        @Test
-        @DisplayName("Test sine calculation")
-        void testSin() {
-            // Test key angles
-            double result = coreFeatures.sin(0.0);
-            assertEquals(0.0, result, 1e-10, "sin(0) should be 0");
-
-            result = coreFeatures.sin(Math.PI / 2);
-            assertEquals(1.0, result, 1e-6, "sin(π/2) should be 1");
-
-            result = coreFeatures.sin(Math.PI);
-            assertEquals(0.0, result, 1e-6, "sin(π) should be 0");
-        }
-
-        @Test
-        @DisplayName("Test cosine calculation")
-        void testCos() {
-            // Test key angles
-            double result = coreFeatures.cos(0.0);
-            assertEquals(1.0, result, 1e-10, "cos(0) should be 1");
-
-            result = coreFeatures.cos(Math.PI / 2);
-            assertEquals(0.0, result, 1e-6, "cos(π/2) should be 0");
-
-            result = coreFeatures.cos(Math.PI);
-            assertEquals(-1.0, result, 1e-6, "cos(π) should be -1");
+        @DisplayName("Test mode selection")
+        void testCommandLineModeSelection() {
+            assertTrue(TanCalculator.isCommandLineMode(new String[] {"45"}));
+            assertFalse(TanCalculator.isCommandLineMode(new String[] {"--gui"}));
         }
 
         @Test
-        @DisplayName("Test tangent calculation")
-        void testTan() throws TanCalculatorErrorHandler.UndefinedTangentException {
-            // Test valid tangent values
-            double result = coreFeatures.tan(0.0);
-            assertEquals(0.0, result, 1e-10, "tan(0) should be 0");
-
-            result = coreFeatures.tan(Math.PI / 4);
-            assertEquals(1.0, result, 1e-6, "tan(π/4) should be 1");
-
-            // Test undefined tangent (should throw exception)
-            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class, 
-                () -> {
-                    try {
-                        coreFeatures.tan(Math.PI / 2);
-                    } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
-                        throw e;
-                    }
-                }, 
-                "tan(π/2) should be undefined");
-        }
-
-        @Test
-        @DisplayName("Test complete tangent calculation flow")
-        void testCalculateTangent() throws TanCalculatorErrorHandler.InvalidInputException, 
-                                         TanCalculatorErrorHandler.UndefinedTangentException {
-            // Test valid input
-            double result = coreFeatures.calculateTangent("45");
-            assertEquals(1.0, result, 1e-6, "tan(45°) should be 1");
-
-            result = coreFeatures.calculateTangent("0");
-            assertEquals(0.0, result, 1e-10, "tan(0°) should be 0");
-
-            // Test invalid input
-            assertThrows(TanCalculatorErrorHandler.InvalidInputException.class,
-                () -> {
-                    try {
-                        coreFeatures.calculateTangent("abc");
-                    } catch (TanCalculatorErrorHandler.InvalidInputException e) {
-                        throw e;
-                    }
-                },
-                "Non-numeric input should throw InvalidInputException");
-
-            assertThrows(TanCalculatorErrorHandler.InvalidInputException.class,
-                () -> {
-                    try {
-                        coreFeatures.calculateTangent("");
-                    } catch (TanCalculatorErrorHandler.InvalidInputException e) {
-                        throw e;
-                    }
-                },
-                "Empty input should throw InvalidInputException");
-
-            // Test undefined tangent
-            assertThrows(TanCalculatorErrorHandler.UndefinedTangentException.class,
-                () -> {
-                    try {
-                        coreFeatures.calculateTangent("90");
-                    } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
-                        throw e;
-                    }
-                },
-                "tan(90°) should be undefined");
-        }
-        
-        @Test
-        @DisplayName("Test angle range validation")
-        void testAngleRangeValidation() {
-            // Test angles within valid range
-            assertDoesNotThrow(() -> {
-                coreFeatures.calculateTangent("360");
-            }, "360 degrees should be valid");
-            
-            assertDoesNotThrow(() -> {
-                coreFeatures.calculateTangent("-360");
-            }, "-360 degrees should be valid");
-            
-            // Test angles outside valid range (these should still work due to normalization)
-            assertDoesNotThrow(() -> {
-                coreFeatures.calculateTangent("361");
-            }, "361 degrees should be normalized and valid");
-            
-            assertDoesNotThrow(() -> {
-                coreFeatures.calculateTangent("-361");
-            }, "-361 degrees should be normalized and valid");
+        @DisplayName("Test command line mode loads no Swing or AWT classes")
+        void testCommandLineIsHeadless() throws Exception {
+            String javaBin = java.nio.file.Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            StringBuilder classes = new StringBuilder();
+            for (Class<?> type : new Class<?>[] {TanCalculator.class, TanCalculatorCli.class, TanCalculatorCore.class,
+                                                 TanCalculatorHttpServer.class}) {
+                classes.append(java.nio.file.Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()))
+                       .append(java.io.File.pathSeparatorChar);
+            }
+            Process process = new ProcessBuilder(javaBin, "-verbose:class", "-cp", classes.toString(), "TanCalculator", "45").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            assertEquals(0, process.waitFor());
+            assertTrue(output.contains("1.000000"), output);
+            assertFalse(output.contains("javax.swing."), "Swing must not be loaded in command-line mode");
+            assertFalse(output.contains("java.awt."), "AWT must not be loaded in command-line mode");
         }
     }
 
@@ -202,30 +82,49 @@ class TanCalculatorTest {
             JLabel testLabel = new JLabel("Test");
             
             // Test undefined tangent handling
-            errorHandler.handleUndefinedTangent(testLabel);
+            errorDisplay.handleUndefinedTangent(testLabel);
             assertEquals("Result: UNDEFINED", testLabel.getText());
             assertEquals(Color.RED, testLabel.getForeground());
 
             // Test invalid input handling
-            errorHandler.handleInvalidInput(testLabel);
+            errorDisplay.handleInvalidInput(testLabel);
             assertEquals("Result: INVALID INPUT", testLabel.getText());
             assertEquals(Color.RED, testLabel.getForeground());
 
             // Test unexpected error handling
-            errorHandler.handleUnexpectedError(testLabel);
+            errorDisplay.handleUnexpectedError(testLabel);
             assertEquals("Result: ERROR", testLabel.getText());
             assertEquals(Color.RED, testLabel.getForeground());
 
             // Test custom error handling
-            errorHandler.handleError(testLabel, "CUSTOM ERROR");
+            errorDisplay.handleError(testLabel, "CUSTOM ERROR");
             assertEquals("Result: CUSTOM ERROR", testLabel.getText());
             assertEquals(Color.RED, testLabel.getForeground());
 
             // Test error clearing
-            errorHandler.clearError(testLabel);
+            errorDisplay.clearError(testLabel);
             assertEquals("Result:", testLabel.getText());
             assertEquals(Color.BLUE, testLabel.getForeground());
         }
+
+        @Test
+        @DisplayName("Test error event label adapter")
+        void testLabelSink() throws Exception {
+            JLabel testLabel = new JLabel("Test");
+            errorDisplay.handleError(testLabel, TanCalculatorErrorEvent.Kind.NON_FINITE_INPUT);
+            assertEquals("Result: INVALID INPUT", testLabel.getText());
+
+            TanCalculatorErrorBus bus = new TanCalculatorErrorBus(16, errorDisplay.labelSink(testLabel));
+            TanCalculatorCore core = new TanCalculatorCore();
+            core.setErrorBus(bus);
+            core.calculateTangents(new double[] {90}, new double[1], new byte[1], 0, 1);
+            assertEquals("Result: INVALID INPUT", testLabel.getText(), "Publishing does not touch the label");
+            bus.close();
+            EventQueue.invokeAndWait(() -> { });
+            assertEquals("Result: UNDEFINED", testLabel.getText());
+            assertEquals(Color.RED, testLabel.getForeground());
+        }
+
     }
 
     @Nested
@@ -289,6 +188,65 @@ class TanCalculatorTest {
             assertTrue(clearButton.getPreferredSize().width >= 100, "Clear button should have proper width");
         }
 
+        @Test
+        @DisplayName("Test background calculation")
+        void testBackgroundCalculation() throws Exception {
+            Container contentPane = gui.getContentPane();
+            JButton computeButton = findButton(contentPane, "Compute tan(x)");
+            JTextField inputField = findComponent(contentPane, JTextField.class, "");
+            JLabel resultLabel = findComponent(contentPane, JLabel.class, "Result:");
+            assertNotNull(inputField, "Input field should exist");
+            assertNotNull(resultLabel, "Result label should exist");
+            char separator = java.text.DecimalFormatSymbols.getInstance().getDecimalSeparator();
+            String point = String.valueOf(separator <= 0x7F ? separator : '.');
+
+            SwingUtilities.invokeAndWait(() -> {
+                inputField.setText("45");
+                computeButton.doClick();
+                computeButton.doClick();                // coalesced with the pending calculation
+            });
+            awaitText(resultLabel, "Result: 1" + point + "000000");
+
+            SwingUtilities.invokeAndWait(() -> {
+                inputField.setText("90");
+                computeButton.doClick();
+                inputField.setText("abc");
+                computeButton.doClick();
+                inputField.setText("30");
+                computeButton.doClick();                // only the latest input is shown
+            });
+            awaitText(resultLabel, "Result: 0" + point + "577350");
+        }
+
+        private void awaitText(JLabel label, String expected) throws Exception {
+            String[] text = new String[1];
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            do {
+                Thread.sleep(10);
+                SwingUtilities.invokeAndWait(() -> text[0] = label.getText());
+            } while (!expected.equals(text[0]) && System.nanoTime() < deadline);
+            assertEquals(expected, text[0]);
+        }
+
+        private <T extends Component> T findComponent(Container container, Class<T> type, String textPrefix) {
+            for (Component comp : container.getComponents()) {
+                if (type.isInstance(comp)) {
+                    String text = comp instanceof JLabel ? ((JLabel) comp).getText()
+                        : comp instanceof JTextField ? ((JTextField) comp).getText() : "";
+                    if (text != null && text.startsWith(textPrefix)) {
+                        return type.cast(comp);
+                    }
+                }
+                if (comp instanceof Container) {
+                    T found = findComponent((Container) comp, type, textPrefix);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            return null;
+        }
+
         private JButton findButton(Container container, String text) {
             for (Component comp : container.getComponents()) {
                 if (comp instanceof JButton) {
@@ -326,7 +284,7 @@ class TanCalculatorTest {
                 coreFeatures.calculateTangent("90");
                 fail("Should have thrown UndefinedTangentException");
             } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
-                errorHandler.handleUndefinedTangent(testLabel);
+                errorDisplay.handleUndefinedTangent(testLabel);
                 assertEquals("Result: UNDEFINED", testLabel.getText());
             }
         }
@@ -341,7 +299,7 @@ class TanCalculatorTest {
                 coreFeatures.calculateTangent("invalid");
                 fail("Should have thrown InvalidInputException");
             } catch (TanCalculatorErrorHandler.InvalidInputException e) {
-                errorHandler.handleInvalidInput(testLabel);
+                errorDisplay.handleInvalidInput(testLabel);
                 assertEquals("Result: INVALID INPUT", testLabel.getText());
             } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
                 fail("Unexpected UndefinedTangentException: " + e.getMessage());
@@ -352,7 +310,7 @@ class TanCalculatorTest {
                 coreFeatures.calculateTangent("90");
                 fail("Should have thrown UndefinedTangentException");
             } catch (TanCalculatorErrorHandler.UndefinedTangentException e) {
-                errorHandler.handleUndefinedTangent(testLabel);
+                errorDisplay.handleUndefinedTangent(testLabel);
                 assertEquals("Result: UNDEFINED", testLabel.getText());
             } catch (TanCalculatorErrorHandler.InvalidInputException e) {
                 fail("Unexpected InvalidInputException: " + e.getMessage());
@@ -365,4 +323,4 @@ class TanCalculatorTest {
     void testVersionInformation() {
         assertEquals("1.0.0", TanCalculator.VERSION, "Version should be 1.0.0");
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,495 @@
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TanCalculatorHttpServer - Embedded HTTP evaluation service.
+ *
+ * Serves {@link TanCalculatorCore} over HTTP/1.1 with the JDK's built-in server:
+ * <ul>
+ *   <li>{@code GET /tan?deg=45} returns {@code {"tan":1.0,"status":"OK"}}, or status 422
+ *       with {@code "tan":null} when the tangent is undefined (FR‑5) or the input invalid
+ *       (FR‑6).</li>
+ *   <li>{@code POST /tan/batch} with a JSON array of angles, numbers or strings, returns
+ *       {@code {"tan":[...],"status":[...]}}, with {@code null} for failed elements.</li>
+ *   <li>{@code POST /tan/batch} with {@code Content-Type: application/octet-stream} and a
+ *       body of little-endian doubles returns the tangents followed by a status byte per
+ *       angle, the layout of {@link TanCalculatorBinaryBatch}.</li>
+ * </ul>
+ * Statuses are the names of the {@code TanCalculatorCore.STATUS_*} codes. Every response
+ * has a fixed length, so connections stay open and pipelined requests are answered in
+ * order. Exchanges run on virtual threads when the JVM has them (Java 21) and on a fixed
+ * pool otherwise; at most {@code maxConcurrent} evaluations run at once, each on one of
+ * as many reusable workers, and a request that cannot get a worker within a second is
+ * answered with 503.
+ *
+ * The JDK server writes headers and body separately, so without TCP_NODELAY every small
+ * response waits for the client's delayed ACK (about 40 ms). The setting is JVM-wide and
+ * read once, so it is left to the launcher: start the JVM with
+ * {@code -Dsun.net.httpserver.nodelay=true}.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorHttpServer implements AutoCloseable {
+
+    /**
+     * Largest number of angles accepted in one batch request.
+     */
+    public static final int MAX_BATCH = 1 << 20;
+
+    /**
+     * How long a request waits for an evaluation slot before 503.
+     */
+    private static final long ADMISSION_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Longest JSON element: a shortest-mode double and a status name, with separators.
+     */
+    private static final int MAX_JSON_ELEMENT = 24 + 1 + 20 + 1;
+
+    private static final String[] STATUS_NAMES = {
+        "OK", "UNDEFINED", "INVALID_NONFINITE", "INVALID_EMPTY", "INVALID_NONNUMERIC"
+    };
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final BlockingQueue<Worker> workers;
+
+    private TanCalculatorHttpServer(TanCalculatorCore.Engine engine, HttpServer server, int maxConcurrent,
+                                    TanCalculatorErrorBus errorBus) {
+        this.server = server;
+        this.workers = new ArrayBlockingQueue<>(maxConcurrent);
+        for (int i = 0; i < maxConcurrent; i++) {
+            workers.add(new Worker(engine, errorBus));
+        }
+        ExecutorService virtual = TanCalculatorPlatform.newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(maxConcurrent, task -> {
+            Thread thread = new Thread(task, "tan-calculator-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/tan", this::handle);
+    }
+
+    /**
+     * Bind and start a server.
+     *
+     * @param address address to listen on; port 0 picks a free port
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param maxConcurrent maximum evaluations running at once, at least 1
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static TanCalculatorHttpServer start(InetSocketAddress address, TanCalculatorCore.Engine engine,
+                                                int maxConcurrent) throws IOException {
+        return start(address, engine, maxConcurrent, null);
+    }
+
+    /**
+     * Bind and start a server reporting failed evaluations to an error bus: single
+     * requests with their text and index −1, batch elements with their index in the batch.
+     *
+     * @param address address to listen on; port 0 picks a free port
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param maxConcurrent maximum evaluations running at once, at least 1
+     * @param errorBus the bus receiving error events, or {@code null} for none
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static TanCalculatorHttpServer start(InetSocketAddress address, TanCalculatorCore.Engine engine,
+                                                int maxConcurrent, TanCalculatorErrorBus errorBus)
+            throws IOException {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + maxConcurrent);
+        }
+        TanCalculatorHttpServer service = new TanCalculatorHttpServer(
+            Objects.requireNonNull(engine, "engine"), HttpServer.create(address, 0), maxConcurrent, errorBus);
+        service.server.start();
+        return service;
+    }
+
+    /**
+     * Get the bound address, with the actual port when started on port 0.
+     *
+     * @return the listening address
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Report whether exchanges run on virtual threads.
+     *
+     * @return true on Java 21 and later
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Stop accepting connections and release the threads. Exchanges in progress are abandoned.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if ("/tan".equals(path)) {
+                if (!"GET".equals(method)) {
+                    sendError(exchange, 405, "Use GET");
+                    return;
+                }
+                admit(exchange, false);
+            } else if ("/tan/batch".equals(path)) {
+                if (!"POST".equals(method)) {
+                    sendError(exchange, 405, "Use POST");
+                    return;
+                }
+                admit(exchange, true);
+            } else {
+                sendError(exchange, 404, "Unknown path");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void admit(HttpExchange exchange, boolean batch) throws IOException {
+        Worker worker;
+        try {
+            worker = workers.poll(ADMISSION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // Shutting down. Answer before restoring the interrupt: an interrupted thread's
+            // channel write would close the connection without a status line
+            try {
+                sendError(exchange, 503, "Server is shutting down");
+            } finally {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        if (worker == null) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "Too many concurrent requests");
+            return;
+        }
+        try {
+            if (batch) {
+                handleBatch(exchange, worker);
+            } else {
+                handleSingle(exchange, worker);
+            }
+        } finally {
+            workers.add(worker);
+        }
+    }
+
+    private static void handleSingle(HttpExchange exchange, Worker worker) throws IOException {
+        String input = queryParameter(exchange.getRequestURI().getRawQuery(), "deg");
+        TanCalculatorResult result = worker.result;
+        byte status = worker.core.tryCalculateTangent(input, result);
+        byte[] body = worker.body;
+        int length = ascii("{\"tan\":", body, 0);
+        length = jsonNumber(result.getValue(), status, worker.formatter, body, length);
+        length = ascii(",\"status\":\"", body, length);
+        length = ascii(STATUS_NAMES[status], body, length);
+        length = ascii("\"}", body, length);
+        send(exchange, status == TanCalculatorCore.STATUS_OK ? 200 : 422, "application/json", body, length);
+    }
+
+    private static void handleBatch(HttpExchange exchange, Worker worker) throws IOException {
+        String type = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean binary = type != null && type.startsWith("application/octet-stream");
+        byte[] request = readBody(exchange.getRequestBody(), (long) MAX_BATCH * (binary ? Double.BYTES : 64));
+        if (request == null) {
+            sendError(exchange, 413, "Batch too large");
+            return;
+        }
+        if (binary) {
+            handleBinaryBatch(exchange, request, worker);
+            return;
+        }
+
+        JsonAngles angles = JsonAngles.parse(request);
+        if (angles == null) {
+            sendError(exchange, 400, "Expected a JSON array of angles");
+            return;
+        }
+        int n = angles.count;
+        if (n > MAX_BATCH) {
+            sendError(exchange, 413, "Batch too large");
+            return;
+        }
+        TanCalculatorErrorBus errorBus = worker.core.getErrorBus();
+        if (errorBus != null) {
+            // Elements that did not parse are evaluated as 0 and never reach the core's bus
+            for (int f = 0; f < angles.failedCount; f += 3) {
+                int index = angles.failed[f];
+                errorBus.publish(TanCalculatorErrorEvent.Kind.ofStatus(angles.status[index]),
+                                 request, angles.failed[f + 1], angles.failed[f + 2], index);
+            }
+        }
+        double[] tangents = new double[n];
+        byte[] status = new byte[n];
+        worker.core.calculateTangents(angles.degrees, tangents, status, 0, n);
+        TanCalculatorFormatter formatter = worker.formatter;
+        byte[] body = new byte[n * MAX_JSON_ELEMENT + 32];
+        int length = ascii("{\"tan\":[", body, 0);
+        for (int i = 0; i < n; i++) {
+            if (angles.status[i] != TanCalculatorCore.STATUS_OK) {
+                status[i] = angles.status[i];
+            }
+            if (i > 0) {
+                body[length++] = ',';
+            }
+            length = jsonNumber(tangents[i], status[i], formatter, body, length);
+        }
+        length = ascii("],\"status\":[", body, length);
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                body[length++] = ',';
+            }
+            body[length++] = '"';
+            length = ascii(STATUS_NAMES[status[i]], body, length);
+            body[length++] = '"';
+        }
+        length = ascii("]}", body, length);
+        send(exchange, 200, "application/json", body, length);
+    }
+
+    private static void handleBinaryBatch(HttpExchange exchange, byte[] request, Worker worker) throws IOException {
+        if (request.length % Double.BYTES != 0) {
+            sendError(exchange, 400, "Body length is not a multiple of " + Double.BYTES);
+            return;
+        }
+        int n = request.length / Double.BYTES;
+        byte[] body = new byte[n * (Double.BYTES + 1)];
+        ByteBuffer out = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        worker.core.calculateTangents(
+            ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+            out.asDoubleBuffer(),
+            out.position(n * Double.BYTES).slice());
+        send(exchange, 200, "application/octet-stream", body, body.length);
+    }
+
+    /**
+     * Read a request body of at most {@code limit} bytes.
+     *
+     * @return the body, or null if it is longer than the limit
+     */
+    private static byte[] readBody(InputStream in, long limit) throws IOException {
+        byte[] body = in.readNBytes((int) Math.min(limit + 1, Integer.MAX_VALUE - 8));
+        if (body.length > limit) {
+            in.transferTo(OutputStream.nullOutputStream());  // drain, so the connection can be reused
+            return null;
+        }
+        return body;
+    }
+
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq == name.length() && pair.startsWith(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static int jsonNumber(double value, byte status, TanCalculatorFormatter formatter, byte[] out, int off) {
+        if (status != TanCalculatorCore.STATUS_OK) {
+            return ascii("null", out, off);
+        }
+        return formatter.format(value, out, off);
+    }
+
+    private static void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        byte[] body = ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+        send(exchange, code, "application/json", body, body.length);
+    }
+
+    private static void send(HttpExchange exchange, int code, String type, byte[] body, int length) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", type);
+        exchange.sendResponseHeaders(code, length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body, 0, length);
+        }
+    }
+
+    private static int ascii(String s, byte[] out, int off) {
+        for (int i = 0; i < s.length(); i++) {
+            out[off + i] = (byte) s.charAt(i);
+        }
+        return off + s.length();
+    }
+
+    /**
+     * Evaluation state reused across requests: taken from the pool when a request is
+     * admitted and returned when it completes, so one exchange uses it at a time.
+     */
+    private static final class Worker {
+
+        private final TanCalculatorCore core;
+        private final TanCalculatorFormatter formatter = new TanCalculatorFormatter(TanCalculatorFormatter.SHORTEST);
+        private final TanCalculatorResult result = new TanCalculatorResult();
+        private final byte[] body = new byte[2 * MAX_JSON_ELEMENT + 32];
+
+        Worker(TanCalculatorCore.Engine engine, TanCalculatorErrorBus errorBus) {
+            this.core = new TanCalculatorCore(engine);
+            core.setErrorBus(errorBus);
+        }
+    }
+
+    /**
+     * Angles of a JSON batch: an array whose elements are numbers, strings holding a
+     * number (parsed with the calculator's input grammar), or null. Each element
+     * gets a parse status like a line of {@link TanCalculatorStreamFilter}.
+     */
+    private static final class JsonAngles {
+
+        private double[] degrees = new double[16];
+        private byte[] status = new byte[16];
+        private int count;
+
+        /**
+         * Index, text offset and text length of each element that did not parse,
+         * allocated with the first one.
+         */
+        private int[] failed;
+        private int failedCount;
+
+        /**
+         * Parse a JSON array of angles.
+         *
+         * @return the angles, or null if the body is not such an array
+         */
+        static JsonAngles parse(byte[] json) {
+            JsonAngles angles = new JsonAngles();
+            TanCalculatorResult parsed = new TanCalculatorResult();
+            int i = skipSpace(json, 0);
+            if (i == json.length || json[i] != '[') {
+                return null;
+            }
+            i = skipSpace(json, i + 1);
+            if (i < json.length && json[i] == ']') {
+                return skipSpace(json, i + 1) == json.length ? angles : null;
+            }
+            while (true) {
+                if (i == json.length) {
+                    return null;
+                }
+                int start = i;
+                byte code;
+                if (json[i] == '"') {
+                    start++;
+                    i = start;
+                    while (i < json.length && json[i] != '"' && json[i] != '\\') {
+                        i++;
+                    }
+                    if (i == json.length || json[i] != '"') {
+                        return null;                    // unterminated, or escapes, which no angle needs
+                    }
+                    code = TanCalculatorParser.parse(json, start, i - start, parsed);
+                    if (code != TanCalculatorCore.STATUS_OK) {
+                        angles.fail(start, i - start);
+                    }
+                    i++;
+                } else if (json.length - i >= 4 && json[i] == 'n' && json[i + 1] == 'u'
+                           && json[i + 2] == 'l' && json[i + 3] == 'l') {
+                    code = TanCalculatorCore.STATUS_INVALID_EMPTY;
+                    i += 4;
+                    angles.fail(start, 4);
+                } else {
+                    while (i < json.length && isNumberChar(json[i])) {
+                        i++;
+                    }
+                    if (i == start) {
+                        return null;
+                    }
+                    code = TanCalculatorParser.parse(json, start, i - start, parsed);
+                    if (code != TanCalculatorCore.STATUS_OK) {
+                        return null;                    // malformed JSON number
+                    }
+                }
+                angles.add(code == TanCalculatorCore.STATUS_OK ? parsed.getValue() : 0.0, code);
+                i = skipSpace(json, i);
+                if (i < json.length && json[i] == ',') {
+                    i = skipSpace(json, i + 1);
+                } else if (i < json.length && json[i] == ']') {
+                    return skipSpace(json, i + 1) == json.length ? angles : null;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Record the text of the element about to be added as not parsed.
+         */
+        private void fail(int start, int length) {
+            if (failed == null) {
+                failed = new int[3 * 16];
+            } else if (failedCount == failed.length) {
+                failed = Arrays.copyOf(failed, failedCount * 2);
+            }
+            failed[failedCount++] = count;
+            failed[failedCount++] = start;
+            failed[failedCount++] = length;
+        }
+
+        private void add(double value, byte code) {
+            if (count == degrees.length) {
+                int capacity = Math.min(count * 2, MAX_BATCH + 1);
+                if (capacity == count) {
+                    return;                             // over the limit; reported as too large
+                }
+                degrees = Arrays.copyOf(degrees, capacity);
+                status = Arrays.copyOf(status, capacity);
+            }
+            degrees[count] = value;
+            status[count] = code;
+            count++;
+        }
+
+        private static boolean isNumberChar(byte c) {
+            return c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+        }
+
+        private static int skipSpace(byte[] json, int i) {
+            while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
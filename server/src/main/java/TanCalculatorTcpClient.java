@@ -0,0 +1,142 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+
+/**
+ * TanCalculatorTcpClient - Blocking client for {@link TanCalculatorTcpServer}.
+ *
+ * {@link #calculateTangents} sends one batch and waits for its answer, with the
+ * contract of {@link TanCalculatorCore#calculateTangents(double[], double[], byte[], int, int)}.
+ * To pipeline, call {@link #send} several times and then {@link #receive} as often;
+ * answers arrive in the order the batches were sent. Because the server stops
+ * reading a connection whose answers are not being read, the batches in flight
+ * should stay within a few socket buffers (some hundred kilobytes) or {@code send}
+ * blocks. Frames are encoded and decoded through direct buffers owned by the client.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorTcpClient implements AutoCloseable {
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+    private final SocketChannel channel;
+    private ByteBuffer request = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private ByteBuffer response = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Connect to a server.
+     *
+     * @param address the server's address
+     * @throws IOException if the connection fails
+     */
+    public TanCalculatorTcpClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        channel.socket().setTcpNoDelay(true);
+    }
+
+    /**
+     * Evaluate a batch remotely.
+     *
+     * @param degreesIn input angles in degrees
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to process in all three arrays
+     * @param len number of elements to process, at most {@link TanCalculatorTcpServer#MAX_BATCH}
+     * @return the number of elements evaluated with {@link TanCalculatorCore#STATUS_OK}
+     * @throws IOException if the connection fails
+     */
+    public int calculateTangents(double[] degreesIn, double[] out, byte[] status, int off, int len) throws IOException {
+        send(degreesIn, off, len);
+        return receive(out, status, off, len);
+    }
+
+    /**
+     * Send a batch without waiting for its answer.
+     *
+     * @param degreesIn input angles in degrees
+     * @param off first index to send
+     * @param len number of angles, at most {@link TanCalculatorTcpServer#MAX_BATCH}
+     * @throws IOException if the connection fails
+     */
+    public void send(double[] degreesIn, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, degreesIn.length);
+        if (len > TanCalculatorTcpServer.MAX_BATCH) {
+            throw new IllegalArgumentException("Batch too large: " + len);
+        }
+        int frame = TanCalculatorTcpServer.HEADER_BYTES + len * Double.BYTES;
+        if (request.capacity() < frame) {
+            request = ByteBuffer.allocateDirect(frame).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        request.clear();
+        request.putInt(len);
+        request.asDoubleBuffer().put(degreesIn, off, len);
+        request.position(frame).flip();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+    }
+
+    /**
+     * Receive the answer to the oldest batch not yet received.
+     *
+     * @param out destination for the tangent values
+     * @param status destination for the per-element status codes
+     * @param off first index to write in both arrays
+     * @param len size of the batch that was sent
+     * @return the number of elements evaluated with {@link TanCalculatorCore#STATUS_OK}
+     * @throws IOException if the connection fails or the answer has a different size
+     */
+    public int receive(double[] out, byte[] status, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, out.length);
+        Objects.checkFromIndexSize(off, len, status.length);
+        response.clear().limit(TanCalculatorTcpServer.HEADER_BYTES);
+        readFully(response);
+        int n = response.getInt(0);
+        if (n != len) {
+            throw new IOException("Expected " + len + " results but the server sent " + n);
+        }
+        int body = n * (Double.BYTES + 1);
+        if (response.capacity() < body) {
+            response = ByteBuffer.allocateDirect(body).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        response.clear().limit(body);
+        readFully(response);
+        response.flip();
+        response.asDoubleBuffer().get(out, off, n);
+        response.position(n * Double.BYTES);
+        response.get(status, off, n);
+        int ok = 0;
+        for (int i = off; i < off + n; i++) {
+            if (status[i] == TanCalculatorCore.STATUS_OK) {
+                ok++;
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Close the connection.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Connection closed by the server");
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * TanCalculatorTcpServer - Binary batch protocol over TCP.
+ *
+ * A compact length-prefixed protocol for service-to-service traffic. All integers
+ * and doubles are little-endian:
+ * <pre>
+ *   request:  int32 n | n × float64 angles in degrees
+ *   response: int32 n | n × float64 tangents | n × uint8 status
+ * </pre>
+ * The response body has the layout of {@link TanCalculatorBinaryBatch}: failed
+ * elements get NaN and a {@code TanCalculatorCore.STATUS_*} code. A client may
+ * send any number of requests before reading; responses come back in order. A
+ * request with n outside [0, {@link #MAX_BATCH}] closes the connection.
+ *
+ * Connections are served by one or more event loops, each a thread with its own
+ * {@link Selector} and {@link TanCalculatorCore}. Frames are evaluated in place
+ * from the connection's direct input buffer into its direct output buffer; a
+ * connection whose output cannot be flushed stops being read until it drains.
+ * An I/O error while accepting, registering or serving a connection closes only
+ * that connection.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorTcpServer implements AutoCloseable {
+
+    /**
+     * Largest number of angles accepted in one request.
+     */
+    public static final int MAX_BATCH = 1 << 20;
+
+    /**
+     * Bytes of the count that prefixes every frame.
+     */
+    static final int HEADER_BYTES = Integer.BYTES;
+
+    /**
+     * Initial size of each connection's input and output buffers.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+    private final ServerSocketChannel acceptor;
+    private final EventLoop[] loops;
+    private int nextLoop;
+
+    private TanCalculatorTcpServer(ServerSocketChannel acceptor, TanCalculatorCore.Engine engine, int loopCount,
+                                   TanCalculatorErrorBus errorBus) throws IOException {
+        this.acceptor = acceptor;
+        this.loops = new EventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            TanCalculatorCore core = new TanCalculatorCore(engine);
+            core.setErrorBus(errorBus);
+            loops[i] = new EventLoop(core, i);
+        }
+        acceptor.configureBlocking(false);
+        acceptor.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Bind and start a server.
+     *
+     * @param address address to listen on; port 0 picks a free port
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param loops number of event loop threads, at least 1
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static TanCalculatorTcpServer start(InetSocketAddress address, TanCalculatorCore.Engine engine, int loops)
+            throws IOException {
+        return start(address, engine, loops, null);
+    }
+
+    /**
+     * Bind and start a server reporting failed elements to an error bus, each with its
+     * index in its request.
+     *
+     * @param address address to listen on; port 0 picks a free port
+     * @param engine the engine evaluating sin/cos on the reduced range
+     * @param loops number of event loop threads, at least 1
+     * @param errorBus the bus receiving error events, or {@code null} for none
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static TanCalculatorTcpServer start(InetSocketAddress address, TanCalculatorCore.Engine engine, int loops,
+                                               TanCalculatorErrorBus errorBus) throws IOException {
+        if (loops < 1) {
+            throw new IllegalArgumentException("Event loop count must be positive: " + loops);
+        }
+        Objects.requireNonNull(engine, "engine");
+        ServerSocketChannel acceptor = ServerSocketChannel.open();
+        try {
+            acceptor.bind(address);
+            TanCalculatorTcpServer server = new TanCalculatorTcpServer(acceptor, engine, loops, errorBus);
+            for (EventLoop loop : server.loops) {
+                loop.thread.start();
+            }
+            return server;
+        } catch (IOException | RuntimeException e) {
+            acceptor.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the bound address, with the actual port when started on port 0.
+     *
+     * @return the listening address
+     * @throws UncheckedIOException if the server has been closed
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) acceptor.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stop accepting and close all connections.
+     */
+    @Override
+    public void close() {
+        try {
+            acceptor.close();
+        } catch (IOException ignored) {
+            // Closing anyway
+        }
+        for (EventLoop loop : loops) {
+            loop.close();
+        }
+    }
+
+    /**
+     * Accept pending connections and hand them to the event loops in turn.
+     * Called on the first loop's thread. A failure affects only the connection
+     * being accepted: the rest are picked up on the next selection.
+     */
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = acceptor.accept();
+            } catch (IOException e) {
+                return;                                 // e.g. out of descriptors: retry on the next select
+            }
+            if (channel == null) {
+                return;
+            }
+            hand(channel);
+        }
+    }
+
+    /**
+     * Configure an accepted connection and queue it on the next event loop, or close
+     * it if it cannot be configured, e.g. because the peer has already reset it.
+     * Called by {@link #accept()} on the first loop's thread.
+     *
+     * @param channel the accepted connection
+     * @return true if the connection was queued
+     */
+    boolean hand(SocketChannel channel) {
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return false;
+        }
+        EventLoop loop = loops[nextLoop];
+        nextLoop = (nextLoop + 1) % loops.length;
+        loop.pending.add(channel);
+        loop.selector.wakeup();
+        return true;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Already failed
+        }
+    }
+
+    /**
+     * One selector thread serving its share of the connections.
+     */
+    private final class EventLoop implements Runnable {
+
+        private final TanCalculatorCore core;
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+
+        EventLoop(TanCalculatorCore core, int id) throws IOException {
+            this.core = core;
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "tan-calculator-tcp-" + id);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (selector.isOpen()) {
+                    selector.select();
+                    for (SocketChannel channel = pending.poll(); channel != null; channel = pending.poll()) {
+                        try {
+                            channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+                        } catch (IOException e) {
+                            closeQuietly(channel);
+                        }
+                    }
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            ((Connection) key.attachment()).ready(key, core);
+                        }
+                    }
+                }
+            } catch (ClosedSelectorException ignored) {
+                // Server closed
+            } catch (IOException e) {
+                close();                                // the selector itself failed
+            }
+        }
+
+        void close() {
+            try {
+                for (SelectionKey key : selector.keys()) {
+                    key.channel().close();
+                }
+                selector.close();
+            } catch (IOException | ClosedSelectorException ignored) {
+                // Closing anyway
+            }
+        }
+    }
+
+    /**
+     * Buffers and state of one client connection.
+     */
+    private static final class Connection {
+
+        private final SocketChannel channel;
+        private ByteBuffer in = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private ByteBuffer out = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private boolean endOfInput;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Read, evaluate and write as far as possible, then update the interest set.
+         */
+        void ready(SelectionKey key, TanCalculatorCore core) {
+            try {
+                if (key.isReadable() && channel.read(in) < 0) {
+                    endOfInput = true;
+                }
+                boolean complete;
+                do {
+                    complete = process(core);
+                    out.flip();
+                    channel.write(out);
+                    boolean drained = !out.hasRemaining();
+                    out.compact();
+                    if (!drained) {
+                        break;
+                    }
+                } while (!complete);
+
+                if (endOfInput && out.position() == 0) {
+                    channel.close();
+                    return;
+                }
+                key.interestOps((out.position() > 0 ? SelectionKey.OP_WRITE : 0)
+                                | (endOfInput || !in.hasRemaining() ? 0 : SelectionKey.OP_READ));
+            } catch (IOException | IllegalStateException e) {
+                closeQuietly(channel);
+            }
+        }
+
+        /**
+         * Evaluate the complete frames in the input buffer while their responses fit.
+         *
+         * @return true if every complete frame was answered, false if output space ran out
+         * @throws IllegalStateException if a frame announces an invalid count
+         */
+        private boolean process(TanCalculatorCore core) {
+            in.flip();
+            try {
+                while (in.remaining() >= HEADER_BYTES) {
+                    int n = in.getInt(in.position());
+                    if (n < 0 || n > MAX_BATCH) {
+                        throw new IllegalStateException("Invalid frame length " + n);
+                    }
+                    int frame = HEADER_BYTES + n * Double.BYTES;
+                    if (in.remaining() < frame) {
+                        if (in.capacity() < frame) {
+                            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(frame, in.capacity() * 2));
+                            in = larger.order(ByteOrder.LITTLE_ENDIAN).put(in).flip();
+                        }
+                        return true;
+                    }
+                    int response = HEADER_BYTES + n * (Double.BYTES + 1);
+                    if (out.remaining() < response) {
+                        if (out.position() > 0) {
+                            return false;               // flush the responses first
+                        }
+                        out = ByteBuffer.allocateDirect(Math.max(response, out.capacity() * 2))
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                    }
+                    evaluate(core, n);
+                }
+                return true;
+            } finally {
+                in.compact();
+            }
+        }
+
+        /**
+         * Answer the frame of n angles at the input position straight from the buffers.
+         */
+        private void evaluate(TanCalculatorCore core, int n) {
+            int start = in.position() + HEADER_BYTES;
+            ByteBuffer degrees = in.duplicate();
+            degrees.position(start).limit(start + n * Double.BYTES);
+            int tangents = out.position() + HEADER_BYTES;
+            ByteBuffer results = out.duplicate();
+            results.position(tangents).limit(tangents + n * Double.BYTES);
+            ByteBuffer status = out.duplicate();
+            status.position(tangents + n * Double.BYTES).limit(tangents + n * (Double.BYTES + 1));
+
+            out.putInt(n);
+            core.calculateTangents(degrees.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                                   results.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                                   status.slice());
+            out.position(tangents + n * (Double.BYTES + 1));
+            in.position(start + n * Double.BYTES);
+        }
+    }
+}
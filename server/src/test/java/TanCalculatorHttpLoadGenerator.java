@@ -0,0 +1,205 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * TanCalculatorHttpLoadGenerator - Throughput and latency of {@link TanCalculatorHttpServer}.
+ *
+ * Opens keep-alive connections, each driven by its own thread that sends
+ * {@code GET /tan} requests for a mix of angles, {@code pipeline} at a time, and
+ * reports requests per second and latency percentiles. Without a URL an in-process
+ * server on a free loopback port is started.
+ * Run with {@code java -Dsun.net.httpserver.nodelay=true -cp core/target/classes:server/target/classes:server/target/test-classes TanCalculatorHttpLoadGenerator
+ * [connections] [seconds] [pipeline] [url]}.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorHttpLoadGenerator {
+
+    private static final String[] ANGLES = {"45", "30.5", "-1234.5678", "90", "1e6", "0.001", "359.75", "abc"};
+
+    private TanCalculatorHttpLoadGenerator() {
+        // Entry point only
+    }
+
+    /**
+     * Run the load generator.
+     *
+     * @param args {@code [connections] [seconds] [pipeline] [url]}
+     * @throws Exception if the server cannot be reached
+     */
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int pipeline = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        TanCalculatorHttpServer local = null;
+        InetSocketAddress target;
+        if (args.length > 3) {
+            URI uri = URI.create(args[3]);
+            target = new InetSocketAddress(uri.getHost(), uri.getPort() < 0 ? 80 : uri.getPort());
+        } else {
+            local = TanCalculatorHttpServer.start(new InetSocketAddress("127.0.0.1", 0), TanCalculatorCore.Engine.SERIES,
+                                                  Runtime.getRuntime().availableProcessors());
+            target = local.getAddress();
+            System.out.println("In-process server on port " + target.getPort()
+                               + (local.isVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        }
+        try {
+            run(target, connections, seconds, pipeline);
+        } finally {
+            if (local != null) {
+                local.close();
+            }
+        }
+    }
+
+    private static void run(InetSocketAddress target, int connections, int seconds, int pipeline)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            Worker worker = new Worker(target, pipeline, deadline, i);
+            workers.add(worker);
+            worker.start();
+        }
+        long count = 0;
+        long errors = 0;
+        long[] all = new long[0];
+        for (Worker worker : workers) {
+            worker.join();
+            if (worker.failure != null) {
+                System.out.println("Connection failed: " + worker.failure);
+            }
+            errors += worker.errors;
+            all = Arrays.copyOf(all, (int) (count + worker.count));
+            System.arraycopy(worker.latencies, 0, all, (int) count, worker.count);
+            count += worker.count;
+        }
+        Arrays.sort(all);
+        System.out.printf(Locale.ROOT, "%d connections, pipeline %d, %d s%n", connections, pipeline, seconds);
+        System.out.printf(Locale.ROOT, "%,d requests, %,d errors, %,.0f requests/s%n", count, errors, count / (double) seconds);
+        if (count > 0) {
+            System.out.printf(Locale.ROOT, "latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1] / 1e3);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e3;
+    }
+
+    /**
+     * One keep-alive connection.
+     */
+    private static final class Worker extends Thread {
+
+        private final InetSocketAddress target;
+        private final int pipeline;
+        private final long deadline;
+        private final byte[][] requests = new byte[ANGLES.length][];
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private long errors;
+        private int next;
+        private Exception failure;
+
+        Worker(InetSocketAddress target, int pipeline, long deadline, int id) {
+            super("load-" + id);
+            this.target = target;
+            this.pipeline = pipeline;
+            this.deadline = deadline;
+            this.next = id;
+            for (int i = 0; i < ANGLES.length; i++) {
+                requests[i] = ("GET /tan?deg=" + ANGLES[i] + " HTTP/1.1\r\nHost: " + target.getHostString() + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        @Override
+        public void run() {
+            try (Socket socket = new Socket(target.getAddress(), target.getPort())) {
+                socket.setTcpNoDelay(true);
+                OutputStream out = socket.getOutputStream();
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                byte[] batch = new byte[0];
+                while (System.nanoTime() < deadline) {
+                    int length = 0;
+                    for (int i = 0; i < pipeline; i++) {
+                        byte[] request = requests[next++ % requests.length];
+                        if (batch.length < length + request.length) {
+                            batch = Arrays.copyOf(batch, (length + request.length) * 2);
+                        }
+                        System.arraycopy(request, 0, batch, length, request.length);
+                        length += request.length;
+                    }
+                    long sent = System.nanoTime();
+                    out.write(batch, 0, length);
+                    for (int i = 0; i < pipeline; i++) {
+                        int status = readResponse(in);
+                        record(System.nanoTime() - sent);
+                        if (status != 200 && status != 422) {
+                            errors++;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        /**
+         * Read one response and return its status code.
+         */
+        private static int readResponse(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int status = -1;
+            long contentLength = 0;
+            while (true) {
+                int c = in.read();
+                if (c < 0) {
+                    throw new IOException("Connection closed");
+                }
+                if (c != '\n') {
+                    if (c != '\r') {
+                        line.append((char) c);
+                    }
+                    continue;
+                }
+                if (line.length() == 0) {
+                    break;
+                }
+                String header = line.toString();
+                if (status < 0) {
+                    status = Integer.parseInt(header.substring(9, 12));
+                } else if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    contentLength = Long.parseLong(header.substring(15).trim());
+                }
+                line.setLength(0);
+            }
+            for (long skipped = 0; skipped < contentLength; skipped++) {
+                if (in.read() < 0) {
+                    throw new IOException("Connection closed");
+                }
+            }
+            return status;
+        }
+    }
+}
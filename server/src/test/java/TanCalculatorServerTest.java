@@ -0,0 +1,174 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Unit tests for the server module: the HTTP service and the binary TCP protocol,
+ * each run against an in-process server on a free loopback port.
+ * 
+ * @version 1.0.0
+ */
+@DisplayName("TanCalculator Server Tests")
+class TanCalculatorServerTest {
+
+    private TanCalculatorCore coreFeatures;
+
+    @BeforeEach
+    void setUp() {
+        coreFeatures = new TanCalculatorCore();
+    }
+
+    @Test
+    @DisplayName("Test HTTP evaluation service")
+    void testHttpService() throws Exception {
+        try (TanCalculatorHttpServer server = TanCalculatorHttpServer.start(
+                 new InetSocketAddress("127.0.0.1", 0), TanCalculatorCore.Engine.SERIES, 2)) {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan?deg=45")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"tan\":1.0,\"status\":\"OK\"}", response.body());
+            response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan?deg=%2D270")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(422, response.statusCode());
+            assertEquals("{\"tan\":null,\"status\":\"UNDEFINED\"}", response.body());
+            response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan?deg=abc")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals("{\"tan\":null,\"status\":\"INVALID_NONNUMERIC\"}", response.body());
+
+            response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(" [45, -45.0, \"90\", \"x\", null, 1e400] "))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"tan\":[1.0,-1.0,null,null,null,null],\"status\":[\"OK\",\"OK\",\"UNDEFINED\","
+                + "\"INVALID_NONNUMERIC\",\"INVALID_EMPTY\",\"INVALID_NONFINITE\"]}", response.body());
+            response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan/batch"))
+                    .POST(HttpRequest.BodyPublishers.ofString("[45,")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, response.statusCode());
+
+            ByteBuffer angles = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+            angles.putDouble(45).putDouble(90).putDouble(Double.NaN);
+            HttpResponse<byte[]> binary = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/tan/batch"))
+                    .header("Content-Type", "application/octet-stream")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(angles.array())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            ByteBuffer result = ByteBuffer.wrap(binary.body()).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(27, result.capacity(), "Three tangents and three status bytes");
+            assertEquals(1.0, result.getDouble(0), 1e-15);
+            assertEquals(TanCalculatorCore.STATUS_OK, result.get(24));
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, result.get(25));
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, result.get(26));
+
+            // Pipelined requests on one keep-alive connection are answered in order
+            try (Socket socket = new Socket("127.0.0.1", server.getAddress().getPort())) {
+                socket.setSoTimeout(10_000);
+                String request = "GET /tan?deg=%s HTTP/1.1\r\nHost: localhost\r\n\r\n";
+                socket.getOutputStream().write((String.format(request, "45") + String.format(request, "90")
+                    + String.format(request, "0")).getBytes(StandardCharsets.US_ASCII));
+                InputStream in = socket.getInputStream();
+                StringBuilder received = new StringBuilder();
+                while (!received.toString().contains("{\"tan\":0.0,")) {
+                    int c = in.read();
+                    assertTrue(c >= 0, "Connection closed early: " + received);
+                    received.append((char) c);
+                }
+                String all = received.toString();
+                int ok = all.indexOf("{\"tan\":1.0,");
+                int undefined = all.indexOf("\"UNDEFINED\"");
+                assertTrue(ok >= 0 && undefined > ok && all.indexOf("{\"tan\":0.0,") > undefined, all);
+            }
+
+            response = client.send(HttpRequest.newBuilder(URI.create(base + "/other")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(404, response.statusCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Test binary TCP protocol")
+    void testTcpProtocol() throws Exception {
+        int n = 200_000;
+        double[] degrees = new double[n];
+        Random random = new Random(22);
+        for (int i = 0; i < n; i++) {
+            degrees[i] = (random.nextDouble() - 0.5) * 1e4;
+        }
+        degrees[1] = 90;
+        degrees[2] = Double.POSITIVE_INFINITY;
+        double[] expected = new double[n];
+        byte[] expectedStatus = new byte[n];
+        coreFeatures.calculateTangents(degrees, expected, expectedStatus, 0, n);
+
+        try (TanCalculatorTcpServer server = TanCalculatorTcpServer.start(
+                 new InetSocketAddress("127.0.0.1", 0), TanCalculatorCore.Engine.SERIES, 2);
+             TanCalculatorTcpClient client = new TanCalculatorTcpClient(server.getAddress())) {
+            double[] out = new double[n];
+            byte[] status = new byte[n];
+            assertEquals(1, client.calculateTangents(new double[] {45}, out, status, 0, 1));
+            assertEquals(1.0, out[0], 1e-15);
+
+            // Pipelined: an empty batch, a small one, and one that grows the server's buffers
+            client.send(degrees, 0, 0);
+            client.send(degrees, 0, 3);
+            client.send(degrees, 3, n - 3);
+            assertEquals(0, client.receive(out, status, 0, 0));
+            assertEquals(1, client.receive(out, status, 0, 3));
+            int ok = client.receive(out, status, 3, n - 3);
+            assertEquals(n - 2, 1 + ok);
+            for (int i = 0; i < n; i++) {
+                // Same engine and deterministic evaluation, and doubles cross the wire unchanged
+                assertEquals(Double.doubleToRawLongBits(expected[i]), Double.doubleToRawLongBits(out[i]), "Tangent " + i);
+                assertEquals(expectedStatus[i], status[i], "Status " + i);
+            }
+            assertEquals(TanCalculatorCore.STATUS_UNDEFINED, status[1]);
+            assertEquals(TanCalculatorCore.STATUS_INVALID_NONFINITE, status[2]);
+
+            // A frame with a negative count closes the connection
+            try (SocketChannel raw = SocketChannel.open(server.getAddress())) {
+                raw.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, -5));
+                assertEquals(-1, raw.read(ByteBuffer.allocate(16)));
+            }
+            assertEquals(1, client.calculateTangents(new double[] {0}, out, status, 0, 1), "Other connections unaffected");
+        }
+
+        // A connection that fails while being accepted is closed alone; its loop keeps serving
+        try (TanCalculatorTcpServer server = TanCalculatorTcpServer.start(
+                 new InetSocketAddress("127.0.0.1", 0), TanCalculatorCore.Engine.SERIES, 1)) {
+            SocketChannel broken = SocketChannel.open();
+            broken.close();
+            assertFalse(server.hand(broken));
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                try (TanCalculatorTcpClient client = new TanCalculatorTcpClient(server.getAddress())) {
+                    assertEquals(1, client.calculateTangents(new double[] {45}, new double[1], new byte[1], 0, 1));
+                }
+            }, "Server still accepts and serves");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * TanCalculatorTcpBenchmark - Loopback throughput and latency of the binary TCP protocol.
+ *
+ * Starts an in-process {@link TanCalculatorTcpServer} and, for each batch size,
+ * keeps {@code pipeline} batches in flight on one {@link TanCalculatorTcpClient}
+ * connection, reporting angles per second and the round-trip latency of a frame.
+ * Run with {@code java -cp core/target/classes:server/target/classes:server/target/test-classes TanCalculatorTcpBenchmark
+ * [seconds] [pipeline] [loops]}.
+ *
+ * @author TanCalculator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TanCalculatorTcpBenchmark {
+
+    private static final int[] BATCH_SIZES = {1, 64, 4096};
+
+    private TanCalculatorTcpBenchmark() {
+        // Entry point only
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args {@code [seconds] [pipeline] [loops]}
+     * @throws Exception if the loopback connection fails
+     */
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int pipeline = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int loops = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        Random random = new Random(42);
+        double[] degrees = new double[BATCH_SIZES[BATCH_SIZES.length - 1]];
+        for (int i = 0; i < degrees.length; i++) {
+            degrees[i] = (random.nextDouble() - 0.5) * 720;
+        }
+        double[] out = new double[degrees.length];
+        byte[] status = new byte[degrees.length];
+
+        try (TanCalculatorTcpServer server = TanCalculatorTcpServer.start(
+                 new InetSocketAddress("127.0.0.1", 0), TanCalculatorCore.Engine.SERIES, loops);
+             TanCalculatorTcpClient client = new TanCalculatorTcpClient(server.getAddress())) {
+            System.out.printf(Locale.ROOT, "%d event loop(s), pipeline %d%n", loops, pipeline);
+            for (int n : BATCH_SIZES) {
+                run(client, degrees, out, status, n, pipeline, 1);             // warm-up
+                run(client, degrees, out, status, n, pipeline, seconds);
+            }
+        }
+    }
+
+    private static void run(TanCalculatorTcpClient client, double[] degrees, double[] out, byte[] status,
+                            int n, int pipeline, int seconds) throws Exception {
+        long[] latencies = new long[1 << 16];
+        long[] sent = new long[pipeline];
+        int frames = 0;
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        for (int i = 0; i < pipeline; i++) {
+            sent[i] = System.nanoTime();
+            client.send(degrees, 0, n);
+        }
+        long now = start;
+        while (now < deadline) {
+            int slot = frames % pipeline;
+            client.receive(out, status, 0, n);
+            now = System.nanoTime();
+            if (frames == latencies.length) {
+                latencies = Arrays.copyOf(latencies, frames * 2);
+            }
+            latencies[frames++] = now - sent[slot];
+            sent[slot] = now;
+            client.send(degrees, 0, n);
+        }
+        for (int i = 0; i < pipeline; i++) {
+            client.receive(out, status, 0, n);
+        }
+        double elapsed = (now - start) / 1e9;
+        if (seconds > 1) {
+            Arrays.sort(latencies, 0, frames);
+            System.out.printf(Locale.ROOT, "batch %5d: %,12.0f angles/s, %,10.0f frames/s, p50 %.1f us, p99 %.1f us%n",
+                              n, (double) frames * n / elapsed, frames / elapsed,
+                              percentile(latencies, frames, 0.50), percentile(latencies, frames, 0.99));
+        }
+    }
+
+    private static double percentile(long[] sorted, int count, double p) {
+        return sorted[(int) Math.min(count - 1, Math.ceil(p * count) - 1)] / 1e3;
+    }
+}
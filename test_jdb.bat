@@ -5,7 +5,7 @@ echo ========================================
 echo.
 
 echo [1/4] Compiling project...
-mvn clean compile
+mvn clean package -DskipTests
 if %errorlevel% neq 0 (
     echo ERROR: Compilation failed
     exit /b 1
@@ -42,13 +42,12 @@ echo Pre-configured breakpoints:
 echo   - TanCalculator:main
 echo   - TanCalculatorCore:calculateTangent
 echo   - TanCalculatorCore:parseInput
-echo   - TanCalculatorErrorHandler:handleInvalidInput
+echo   - TanCalculatorErrorDisplay:handleInvalidInput
 echo.
 echo ========================================
 echo.
 
-cd target\classes
-jdb TanCalculator
+jdb -classpath gui\target\tan-calculator-1.0.0.jar TanCalculator
 
 echo.
 echo ========================================